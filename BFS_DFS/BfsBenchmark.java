@@ -0,0 +1,94 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <BfsBenchmark class compares the queue-based BFS of Graph against the
+ * direction-optimizing BFS and the parallel BFS on a generated power-law
+ * graph>
+ *
+ * Usage: java BfsBenchmark [scale] [edgeFactor] [alpha] [beta]
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class BfsBenchmark {
+
+    private static final int SEARCHES = 16;
+
+    /**
+     * Main method for BfsBenchmark.
+     *
+     * @param args-> optional scale, edge factor, alpha and beta.
+     */
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int alpha = args.length > 2 ? Integer.parseInt(args[2]) : DirectionOptimizingBfs.DEFAULT_ALPHA;
+        int beta = args.length > 3 ? Integer.parseInt(args[3]) : DirectionOptimizingBfs.DEFAULT_BETA;
+
+        Graph graph = GraphGenerator.rmat(scale, edgeFactor, 42L);
+        System.out.println("R-MAT scale " + scale + ": " + graph.getVertexCount() + " vertices, "
+                + graph.getEdgeCount() + " edges, alpha=" + alpha + " beta=" + beta);
+
+        // Sources are drawn from non-isolated vertices so every search does real work
+        Random random = new Random(7L);
+        int[] sources = new int[SEARCHES];
+        for (int i = 0; i < SEARCHES; i++) {
+            int source;
+            do {
+                source = random.nextInt(graph.getVertexCount());
+            } while (graph.getDegree(source) == 0);
+            sources[i] = source;
+        }
+
+        DirectionOptimizingBfs directionOptimizing = new DirectionOptimizingBfs(graph, alpha, beta);
+        ParallelBfs parallel = new ParallelBfs(graph);
+
+        // Warm up all searches and check they agree
+        for (int source : sources) {
+            int[] expected = graph.breadthFirstLevels(source);
+            if (!Arrays.equals(expected, directionOptimizing.levels(source))
+                    || !Arrays.equals(expected, parallel.levels(source))) {
+                throw new IllegalStateException("Level mismatch from source " + source);
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int source : sources) {
+            graph.breadthFirstLevels(source);
+        }
+        long queueTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int bottomUpSteps = 0;
+        for (int source : sources) {
+            directionOptimizing.levels(source);
+            bottomUpSteps += directionOptimizing.getBottomUpSteps();
+        }
+        long directionTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int source : sources) {
+            parallel.levels(source);
+        }
+        long parallelTime = System.nanoTime() - start;
+
+        System.out.printf("queue-based BFS:           %8.2f ms/search%n", queueTime / 1e6 / SEARCHES);
+        System.out.printf("direction-optimizing BFS:  %8.2f ms/search (%.1f bottom-up levels/search)%n",
+                directionTime / 1e6 / SEARCHES, (double) bottomUpSteps / SEARCHES);
+        System.out.printf("parallel BFS (%2d workers): %8.2f ms/search%n",
+                ForkJoinPool.commonPool().getParallelism(), parallelTime / 1e6 / SEARCHES);
+        System.out.printf("direction-optimizing speedup: %.2fx, parallel speedup: %.2fx%n",
+                (double) queueTime / directionTime, (double) queueTime / parallelTime);
+    }
+}
@@ -0,0 +1,310 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * <Biconnectivity class runs one depth-first search over a whole undirected
+ * Graph and derives its bridges, articulation points and biconnected
+ * components from the discovery times and low-link values>
+ *
+ * The search is iterative over an explicit frame stack of (vertex, next edge)
+ * pairs, so it never recurses and handles million-vertex paths. Discovery and
+ * finish times share one clock, as in CLRS. Parallel edges are handled by
+ * skipping only one occurrence of the tree edge back to the parent.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class Biconnectivity {
+
+    private final int[] discovery;
+    private final int[] finish;
+    private final int[] low;
+    private final int[] parent;
+    private final boolean[] articulationPoint;
+
+    // Bridges as pairs (parent, child)
+    private int[] bridges;
+    private int bridgeCount;
+
+    // Edges of biconnected component c are the pairs
+    // componentEdges[2 * componentOffsets[c]] .. componentEdges[2 * componentOffsets[c + 1] - 1]
+    private int[] componentEdges;
+    private int[] componentOffsets;
+    private int componentCount;
+
+    /**
+     * constructor for the class Biconnectivity
+     * ->runs the analysis over every connected component of the graph.
+     *
+     * @param graph the undirected graph to analyze
+     */
+    public Biconnectivity(Graph graph) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+
+        discovery = new int[vertexCount];
+        finish = new int[vertexCount];
+        low = new int[vertexCount];
+        parent = new int[vertexCount];
+        articulationPoint = new boolean[vertexCount];
+        Arrays.fill(discovery, -1);
+        Arrays.fill(parent, -1);
+
+        bridges = new int[16];
+        componentOffsets = new int[16];
+
+        // Frame stack and per-vertex flag for the one parent edge to skip
+        int[] stackVertices = new int[vertexCount];
+        int[] stackCursors = new int[vertexCount];
+        boolean[] parentEdgeSkipped = new boolean[vertexCount];
+
+        // Every undirected edge is pushed at most once, from its deeper end
+        int[] edgeStack = new int[targets.length + 2];
+        int edgeTop = 0;
+        componentEdges = new int[targets.length + 2];
+        int componentEdgeCount = 0;
+
+        int time = 0;
+
+        for (int root = 0; root < vertexCount; root++) {
+            if (discovery[root] != -1) {
+                continue;
+            }
+            discovery[root] = low[root] = time++;
+            stackVertices[0] = root;
+            stackCursors[0] = offsets[root];
+            int top = 1;
+            int rootChildren = 0;
+
+            while (top > 0) {
+                int vertex = stackVertices[top - 1];
+                int cursor = stackCursors[top - 1];
+
+                if (cursor < offsets[vertex + 1]) {
+                    stackCursors[top - 1] = cursor + 1;
+                    int neighbor = targets[cursor];
+
+                    if (neighbor == parent[vertex] && !parentEdgeSkipped[vertex]) {
+                        parentEdgeSkipped[vertex] = true;
+                    } else if (discovery[neighbor] == -1) {
+                        // Tree edge: descend
+                        parent[neighbor] = vertex;
+                        discovery[neighbor] = low[neighbor] = time++;
+                        edgeStack[edgeTop++] = vertex;
+                        edgeStack[edgeTop++] = neighbor;
+                        stackVertices[top] = neighbor;
+                        stackCursors[top] = offsets[neighbor];
+                        top++;
+                        if (vertex == root) {
+                            rootChildren++;
+                        }
+                    } else if (discovery[neighbor] < discovery[vertex]) {
+                        // Back edge to an ancestor
+                        low[vertex] = Math.min(low[vertex], discovery[neighbor]);
+                        edgeStack[edgeTop++] = vertex;
+                        edgeStack[edgeTop++] = neighbor;
+                    }
+                    continue;
+                }
+
+                // vertex is finished: report it to its parent
+                finish[vertex] = time++;
+                top--;
+                int up = parent[vertex];
+                if (up == -1) {
+                    continue;
+                }
+                low[up] = Math.min(low[up], low[vertex]);
+
+                if (low[vertex] > discovery[up]) {
+                    addBridge(up, vertex);
+                }
+                if (low[vertex] >= discovery[up]) {
+                    if (up != root) {
+                        articulationPoint[up] = true;
+                    }
+                    // Pop the edges of the biconnected component closed by (up, vertex)
+                    int start = componentEdgeCount;
+                    int u;
+                    int v;
+                    do {
+                        v = edgeStack[--edgeTop];
+                        u = edgeStack[--edgeTop];
+                        componentEdges[2 * componentEdgeCount] = u;
+                        componentEdges[2 * componentEdgeCount + 1] = v;
+                        componentEdgeCount++;
+                    } while (u != up || v != vertex);
+                    addComponent(start);
+                }
+            }
+
+            if (rootChildren > 1) {
+                articulationPoint[root] = true;
+            }
+        }
+
+        componentOffsets[componentCount] = componentEdgeCount;
+        componentOffsets = Arrays.copyOf(componentOffsets, componentCount + 1);
+        componentEdges = Arrays.copyOf(componentEdges, 2 * componentEdgeCount);
+        bridges = Arrays.copyOf(bridges, 2 * bridgeCount);
+    }
+
+    private void addBridge(int u, int v) {
+        if (2 * bridgeCount + 2 > bridges.length) {
+            bridges = Arrays.copyOf(bridges, bridges.length * 2);
+        }
+        bridges[2 * bridgeCount] = u;
+        bridges[2 * bridgeCount + 1] = v;
+        bridgeCount++;
+    }
+
+    private void addComponent(int firstEdge) {
+        if (componentCount + 2 > componentOffsets.length) {
+            componentOffsets = Arrays.copyOf(componentOffsets, componentOffsets.length * 2);
+        }
+        componentOffsets[componentCount++] = firstEdge;
+    }
+
+    /**
+     * getDiscoveryTimes method gets the time each vertex was first reached.
+     * The array is shared with this result and must not be modified.
+     */
+    public int[] getDiscoveryTimes() {
+        return discovery;
+    }
+
+    /**
+     * getFinishTimes method gets the time each vertex was finished. The array
+     * is shared with this result and must not be modified.
+     */
+    public int[] getFinishTimes() {
+        return finish;
+    }
+
+    /**
+     * getLowLinks method gets the low-link value of each vertex: the smallest
+     * discovery time reachable from its DFS subtree through at most one back
+     * edge. The array is shared with this result and must not be modified.
+     */
+    public int[] getLowLinks() {
+        return low;
+    }
+
+    /**
+     * getParents method gets the DFS tree parent of each vertex, -1 for roots.
+     * The array is shared with this result and must not be modified.
+     */
+    public int[] getParents() {
+        return parent;
+    }
+
+    /**
+     * isArticulationPoint method tells whether removing a vertex disconnects
+     * its connected component
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public boolean isArticulationPoint(int vertex) {
+        return articulationPoint[vertex];
+    }
+
+    /**
+     * getArticulationPoints method gets all articulation points in ascending
+     * order
+     */
+    public int[] getArticulationPoints() {
+        int count = 0;
+        for (boolean isPoint : articulationPoint) {
+            if (isPoint) {
+                count++;
+            }
+        }
+        int[] points = new int[count];
+        count = 0;
+        for (int vertex = 0; vertex < articulationPoint.length; vertex++) {
+            if (articulationPoint[vertex]) {
+                points[count++] = vertex;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * getBridgeCount method gets the number of bridges
+     */
+    public int getBridgeCount() {
+        return bridgeCount;
+    }
+
+    /**
+     * getBridges method gets the bridges as pairs: bridge i joins
+     * getBridges()[2 * i] (the DFS parent) and getBridges()[2 * i + 1]. The
+     * array is shared with this result and must not be modified.
+     */
+    public int[] getBridges() {
+        return bridges;
+    }
+
+    /**
+     * getComponentCount method gets the number of biconnected components.
+     * Isolated vertices belong to none.
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * getComponentEdges method gets the edges of one biconnected component as
+     * pairs of vertices
+     *
+     * @param component- a biconnected component number
+     */
+    public int[] getComponentEdges(int component) {
+        return Arrays.copyOfRange(componentEdges, 2 * componentOffsets[component],
+                2 * componentOffsets[component + 1]);
+    }
+
+    /**
+     * Main method for Biconnectivity: prints the articulation points, bridges
+     * and biconnected component count of every graph in a file.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = graphcc.readFile(args[0]);
+            int count = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                Biconnectivity analysis = new Biconnectivity(g);
+                System.out.println("** G" + count + ":");
+                System.out.println("Articulation points: " + Arrays.toString(analysis.getArticulationPoints()));
+
+                StringBuilder line = new StringBuilder("Bridges:");
+                int[] bridgePairs = analysis.getBridges();
+                for (int i = 0; i < analysis.getBridgeCount(); i++) {
+                    line.append(" (").append(bridgePairs[2 * i]).append(", ").append(bridgePairs[2 * i + 1])
+                            .append(')');
+                }
+                System.out.println(line);
+                System.out.println("Biconnected components: " + analysis.getComponentCount());
+                System.out.println();
+            }
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+    }
+}
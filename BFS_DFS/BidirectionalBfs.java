@@ -0,0 +1,258 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Random;
+
+/**
+ * <BidirectionalBfs class answers s-t shortest hop path queries by searching
+ * from both ends at once>
+ *
+ * Each step expands one whole BFS level of whichever side currently has the
+ * smaller frontier. When a level reaches vertices already seen by the other
+ * side, the shortest meeting over that level gives the distance and the path
+ * is stitched together from the parent pointers of both sides. The working
+ * arrays come from the graph's per-thread TraversalScratch, so queries do not
+ * clear or allocate arrays of size |V|.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class BidirectionalBfs {
+
+    private final Graph graph;
+
+    /**
+     * constructor for the class BidirectionalBfs
+     *
+     * @param graph the undirected graph to search
+     */
+    public BidirectionalBfs(Graph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * <ShortestPath class is the answer to one s-t query>
+     */
+    public static final class ShortestPath {
+
+        private final int[] path;
+        private final int verticesVisited;
+
+        ShortestPath(int[] path, int verticesVisited) {
+            this.path = path;
+            this.verticesVisited = verticesVisited;
+        }
+
+        /**
+         * getDistance method gets the number of edges on the path, or -1 if t
+         * cannot be reached from s
+         */
+        public int getDistance() {
+            return path == null ? -1 : path.length - 1;
+        }
+
+        /**
+         * getPath method gets the vertices of a shortest path from s to t, or
+         * null if there is none
+         */
+        public int[] getPath() {
+            return path;
+        }
+
+        /**
+         * getVerticesVisited method gets how many vertices the two searches
+         * reached together
+         */
+        public int getVerticesVisited() {
+            return verticesVisited;
+        }
+    }
+
+    /**
+     * Finds a shortest hop path between two vertices.
+     *
+     * @param source      first end of the path
+     * @param destination last end of the path
+     * @return the distance, the path and the search effort
+     */
+    public ShortestPath shortestPath(int source, int destination) {
+        TraversalScratch context = graph.scratch();
+        try {
+            return shortestPath(source, destination, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    private ShortestPath shortestPath(int source, int destination, TraversalScratch context) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        context.ensureBidirectional();
+        context.reset();
+        int epoch = context.epoch;
+
+        if (source == destination) {
+            return new ShortestPath(new int[] { source }, 1);
+        }
+
+        // Forward side
+        int[] forwardStamps = context.stamps;
+        int[] forwardQueue = context.queue;
+        int[] forwardParents = context.forwardParents;
+        int[] forwardDistances = context.forwardDistances;
+        int forwardHead = 0;
+        int forwardTail = 0;
+        long forwardEdges = offsets[source + 1] - offsets[source];
+
+        // Backward side
+        int[] backwardStamps = context.backwardStamps;
+        int[] backwardQueue = context.backwardQueue;
+        int[] backwardParents = context.backwardParents;
+        int[] backwardDistances = context.backwardDistances;
+        int backwardHead = 0;
+        int backwardTail = 0;
+        long backwardEdges = offsets[destination + 1] - offsets[destination];
+
+        forwardStamps[source] = epoch;
+        forwardParents[source] = -1;
+        forwardDistances[source] = 0;
+        forwardQueue[forwardTail++] = source;
+        backwardStamps[destination] = epoch;
+        backwardParents[destination] = -1;
+        backwardDistances[destination] = 0;
+        backwardQueue[backwardTail++] = destination;
+
+        int bestDistance = Integer.MAX_VALUE;
+        int meetFrom = -1;
+        int meetTo = -1;
+        boolean meetForward = true;
+
+        while (forwardHead < forwardTail && backwardHead < backwardTail) {
+            // Expand the side whose frontier has fewer edges to scan
+            boolean forward = forwardEdges <= backwardEdges;
+            int[] stamps = forward ? forwardStamps : backwardStamps;
+            int[] otherStamps = forward ? backwardStamps : forwardStamps;
+            int[] queue = forward ? forwardQueue : backwardQueue;
+            int[] parents = forward ? forwardParents : backwardParents;
+            int[] distances = forward ? forwardDistances : backwardDistances;
+            int[] otherDistances = forward ? backwardDistances : forwardDistances;
+            int head = forward ? forwardHead : backwardHead;
+            int tail = forward ? forwardTail : backwardTail;
+            int levelEnd = tail;
+            long nextEdges = 0;
+
+            while (head < levelEnd) {
+                int currentVertex = queue[head++];
+                int nextDistance = distances[currentVertex] + 1;
+                for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    if (otherStamps[neighbor] == epoch) {
+                        int total = nextDistance + otherDistances[neighbor];
+                        if (total < bestDistance) {
+                            bestDistance = total;
+                            meetFrom = currentVertex;
+                            meetTo = neighbor;
+                            meetForward = forward;
+                        }
+                    }
+                    if (stamps[neighbor] != epoch) {
+                        stamps[neighbor] = epoch;
+                        parents[neighbor] = currentVertex;
+                        distances[neighbor] = nextDistance;
+                        queue[tail++] = neighbor;
+                        nextEdges += offsets[neighbor + 1] - offsets[neighbor];
+                    }
+                }
+            }
+
+            if (forward) {
+                forwardHead = head;
+                forwardTail = tail;
+                forwardEdges = nextEdges;
+            } else {
+                backwardHead = head;
+                backwardTail = tail;
+                backwardEdges = nextEdges;
+            }
+
+            if (bestDistance != Integer.MAX_VALUE) {
+                break;
+            }
+        }
+
+        int visited = forwardTail + backwardTail;
+        if (bestDistance == Integer.MAX_VALUE) {
+            return new ShortestPath(null, visited);
+        }
+
+        // meetFrom is on the expanding side, meetTo was reached by the other one
+        int forwardEnd = meetForward ? meetFrom : meetTo;
+        int backwardStart = meetForward ? meetTo : meetFrom;
+        int[] path = new int[bestDistance + 1];
+        int position = forwardDistances[forwardEnd];
+        for (int vertex = forwardEnd; vertex != -1; vertex = forwardParents[vertex]) {
+            path[position--] = vertex;
+        }
+        position = forwardDistances[forwardEnd] + 1;
+        for (int vertex = backwardStart; vertex != -1; vertex = backwardParents[vertex]) {
+            path[position++] = vertex;
+        }
+        return new ShortestPath(path, visited);
+    }
+
+    /**
+     * Main method for BidirectionalBfs: compares the vertices visited by
+     * bidirectional queries with full BFS runs on a generated R-MAT graph.
+     *
+     * @param args-> optional scale, edge factor and query count.
+     */
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 18;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        Graph graph = GraphGenerator.rmat(scale, edgeFactor, 42L);
+        BidirectionalBfs search = new BidirectionalBfs(graph);
+        Random random = new Random(7L);
+        long bidirectionalVisited = 0;
+        long fullVisited = 0;
+        long bidirectionalTime = 0;
+        long fullTime = 0;
+
+        for (int q = 0; q < queries; q++) {
+            int source = random.nextInt(graph.getVertexCount());
+            int destination = random.nextInt(graph.getVertexCount());
+
+            long start = System.nanoTime();
+            ShortestPath path = search.shortestPath(source, destination);
+            bidirectionalTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int[] levels = graph.breadthFirstLevels(source);
+            fullTime += System.nanoTime() - start;
+
+            if (path.getDistance() != levels[destination]) {
+                throw new IllegalStateException("Distance mismatch for " + source + " -> " + destination);
+            }
+            bidirectionalVisited += path.getVerticesVisited();
+            for (int level : levels) {
+                if (level != -1) {
+                    fullVisited++;
+                }
+            }
+        }
+
+        System.out.println("R-MAT scale " + scale + ": " + graph.getVertexCount() + " vertices, "
+                + graph.getEdgeCount() + " edges, " + queries + " queries");
+        System.out.printf("full BFS:          %10.1f vertices/query %8.3f ms/query%n",
+                (double) fullVisited / queries, fullTime / 1e6 / queries);
+        System.out.printf("bidirectional BFS: %10.1f vertices/query %8.3f ms/query%n",
+                (double) bidirectionalVisited / queries, bidirectionalTime / 1e6 / queries);
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+
+/**
+ * <ConnectedComponents class holds the result of labeling every vertex of a
+ * Graph with the connected component it belongs to>
+ *
+ * The vertices are stored grouped by component: the vertices of component c are
+ * vertices[offsets[c]] .. vertices[offsets[c + 1] - 1], listed in the order the
+ * labeling traversal reached them. Components are numbered in the order of
+ * their smallest vertex.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class ConnectedComponents {
+
+    private final int[] componentId;
+    private final int[] offsets;
+    private final int[] vertices;
+    private final int componentCount;
+
+    /**
+     * constructor for the class ConnectedComponents
+     *
+     * @param componentId    component of every vertex
+     * @param offsets        start of every component in vertices, plus one
+     *                       trailing entry equal to the vertex count
+     * @param componentCount number of components
+     * @param vertices       vertices grouped by component
+     */
+    ConnectedComponents(int[] componentId, int[] offsets, int componentCount, int[] vertices) {
+        this.componentId = componentId;
+        this.offsets = offsets;
+        this.componentCount = componentCount;
+        this.vertices = vertices;
+    }
+
+    /**
+     * Builds the result from an arbitrary component label per vertex, such as
+     * the root ids of a union-find forest. Components are renumbered in the
+     * order of their smallest vertex and each one lists its vertices in
+     * ascending order, so two labelings of the same partition give equal
+     * component id arrays.
+     *
+     * @param labels a label per vertex in 0..labels.length - 1; vertices with
+     *               equal labels are in the same component
+     * @return the components
+     */
+    public static ConnectedComponents fromLabels(int[] labels) {
+        int vertexCount = labels.length;
+        int[] renumbered = new int[vertexCount];
+        Arrays.fill(renumbered, -1);
+        int[] componentId = new int[vertexCount];
+        int[] sizes = new int[vertexCount + 1];
+        int componentCount = 0;
+
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int label = labels[vertex];
+            if (renumbered[label] == -1) {
+                renumbered[label] = componentCount++;
+            }
+            componentId[vertex] = renumbered[label];
+            sizes[componentId[vertex] + 1]++;
+        }
+
+        int[] offsets = Arrays.copyOf(sizes, componentCount + 1);
+        for (int component = 0; component < componentCount; component++) {
+            offsets[component + 1] += offsets[component];
+        }
+        int[] cursor = Arrays.copyOf(offsets, componentCount);
+        int[] vertices = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            vertices[cursor[componentId[vertex]]++] = vertex;
+        }
+
+        return new ConnectedComponents(componentId, offsets, componentCount, vertices);
+    }
+
+    /**
+     * getComponentCount method gets the number of connected components
+     */
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * getComponentId method gets the component a vertex belongs to
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+
+    public int getComponentId(int vertex) {
+        return componentId[vertex];
+    }
+
+    /**
+     * getComponentSize method gets the number of vertices in a component
+     *
+     * @param component- a component number
+     */
+
+    public int getComponentSize(int component) {
+        return offsets[component + 1] - offsets[component];
+    }
+
+    /**
+     * getComponentIds method gets the component of every vertex. The array is
+     * shared with this result and must not be modified.
+     */
+
+    public int[] getComponentIds() {
+        return componentId;
+    }
+
+    /**
+     * getOffsets method gets the start of every component in getVertices(). The
+     * array has getComponentCount() + 1 entries and must not be modified.
+     */
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * getVertices method gets all vertices grouped by component. The array is
+     * shared with this result and must not be modified.
+     */
+
+    public int[] getVertices() {
+        return vertices;
+    }
+}
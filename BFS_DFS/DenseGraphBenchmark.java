@@ -0,0 +1,151 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * <DenseGraphBenchmark class checks the bitset rows built by freeze(true)
+ * against the CSR form built by freeze(false), then times both on one large
+ * random dense graph>
+ *
+ * The two forms visit neighbors in different orders, so the check compares
+ * what does not depend on that order: BFS levels, the sets of vertices every
+ * traversal reaches, and the component of every vertex.
+ *
+ * Usage: java DenseGraphBenchmark [vertexCount] [edgePercent]
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class DenseGraphBenchmark {
+
+    private static final int CHECKED_GRAPHS = 300;
+
+    private static final int ROUNDS = 5;
+
+    /**
+     * Builds the same random simple graph twice, each pair of vertices joined
+     * with the given probability, and freezes one with and one without the
+     * bitset rows.
+     *
+     * @return the dense graph at index 0 and the CSR graph at index 1
+     */
+    static Graph[] randomPair(int vertexCount, double edgeProbability, Random random) {
+        Graph dense = new Graph();
+        Graph sparse = new Graph();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            dense.addVertex(vertex);
+            sparse.addVertex(vertex);
+        }
+        for (int source = 0; source < vertexCount; source++) {
+            for (int destination = source + 1; destination < vertexCount; destination++) {
+                if (random.nextDouble() < edgeProbability) {
+                    dense.addEdge(source, destination);
+                    sparse.addEdge(source, destination);
+                }
+            }
+        }
+        dense.freeze(true);
+        sparse.freeze(false);
+        return new Graph[] { dense, sparse };
+    }
+
+    /**
+     * Tells whether a dense graph and its CSR twin agree on levels, reached
+     * vertex sets and components from every source.
+     */
+    static boolean matches(Graph dense, Graph sparse) {
+        if (!Arrays.equals(dense.connectedComponents().getComponentIds(),
+                sparse.connectedComponents().getComponentIds())
+                || !Arrays.equals(dense.depthFirstComponents().getComponentIds(),
+                        sparse.depthFirstComponents().getComponentIds())) {
+            return false;
+        }
+        for (int source = 0; source < dense.getVertexCount(); source++) {
+            if (!Arrays.equals(dense.breadthFirstLevels(source), sparse.breadthFirstLevels(source))
+                    || !sorted(dense.breadthFirstSearch(source)).equals(sorted(sparse.breadthFirstSearch(source)))
+                    || !sorted(dense.deapthFirstSearch(source)).equals(sorted(sparse.deapthFirstSearch(source)))
+                    || !visited(dense, source, true).equals(visited(sparse, source, true))
+                    || !visited(dense, source, false).equals(visited(sparse, source, false))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ArrayList<Integer> sorted(ArrayList<Integer> vertices) {
+        Collections.sort(vertices);
+        return vertices;
+    }
+
+    private static ArrayList<Integer> visited(Graph graph, int source, boolean breadthFirst) {
+        ArrayList<Integer> vertices = new ArrayList<>();
+        if (breadthFirst) {
+            graph.breadthFirstVisit(source, vertex -> vertices.add(vertex));
+        } else {
+            graph.depthFirstVisit(source, vertex -> vertices.add(vertex));
+        }
+        return sorted(vertices);
+    }
+
+    /**
+     * Main method for DenseGraphBenchmark.
+     *
+     * @param args-> optional vertex count and edge percentage of the timed
+     *             graph.
+     */
+    public static void main(String[] args) {
+        int vertexCount = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        int edgePercent = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        // Random sizes and densities; only graphs that get the bitset rows count
+        Random random = new Random(11L);
+        int checked = 0;
+        int mismatches = 0;
+        while (checked < CHECKED_GRAPHS) {
+            Graph[] pair = randomPair(1 + random.nextInt(200), 0.05 + 0.9 * random.nextDouble(), random);
+            if (!pair[0].isDense()) {
+                continue;
+            }
+            checked++;
+            if (!matches(pair[0], pair[1])) {
+                mismatches++;
+            }
+        }
+        System.out.println(mismatches == 0 ? "All " + checked + " dense graphs match CSR."
+                : mismatches + " of " + checked + " dense graphs differ from CSR.");
+
+        Graph[] pair = randomPair(vertexCount, edgePercent / 100.0, new Random(42L));
+        Graph dense = pair[0];
+        Graph sparse = pair[1];
+        System.out.println("random graph: " + vertexCount + " vertices, " + dense.getEdgeCount() + " edges, "
+                + (dense.isDense() ? "bitset rows" : "too sparse for bitset rows"));
+
+        long denseTime = Long.MAX_VALUE;
+        long sparseTime = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int denseCount = dense.connectedComponents().getComponentCount();
+            denseTime = Math.min(denseTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            int sparseCount = sparse.connectedComponents().getComponentCount();
+            sparseTime = Math.min(sparseTime, System.nanoTime() - start);
+
+            if (denseCount != sparseCount) {
+                throw new IllegalStateException("Component count mismatch: " + denseCount + " vs " + sparseCount);
+            }
+        }
+        System.out.printf("connected components: bitset rows %.2f ms, CSR %.2f ms, speedup %.1fx%n",
+                denseTime / 1e6, sparseTime / 1e6, (double) sparseTime / denseTime);
+    }
+}
@@ -0,0 +1,337 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <DiameterEngine class computes the exact diameter of an undirected Graph
+ * with a handful of BFS runs, using double-sweep lower bounds and iFUB
+ * (Crescenzi et al.) upper-bound pruning>
+ *
+ * For every connected component, a double sweep from its highest-degree vertex
+ * gives a lower bound and the middle vertex u of the longest path found. iFUB
+ * then walks the BFS levels of u from the deepest one up: the eccentricities
+ * of the vertices on level i, computed in parallel, either prove the diameter
+ * or show it is at most 2(i - 1), and the search stops as soon as the lower
+ * bound meets the upper bound. The diameter of a disconnected graph is the
+ * largest diameter of its components; components too small to beat the best
+ * diameter so far are skipped.
+ *
+ * Every BFS also tightens per-vertex eccentricity bounds: a BFS from s gives
+ * max(d(s, v), ecc(s) - d(s, v)) &lt;= ecc(v) &lt;= ecc(s) + d(s, v).
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class DiameterEngine {
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    private AtomicIntegerArray lowerBounds;
+    private AtomicIntegerArray upperBounds;
+    private final AtomicInteger bfsCount = new AtomicInteger();
+    private int diameter = -1;
+
+    /**
+     * constructor for the class DiameterEngine using the common ForkJoinPool
+     *
+     * @param graph the undirected graph to measure
+     */
+    public DiameterEngine(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class DiameterEngine
+     *
+     * @param graph the undirected graph to measure
+     * @param pool  the pool the BFS runs from fringe vertices are spread on
+     */
+    public DiameterEngine(Graph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the diameter: the largest hop distance between two vertices of
+     * the same component.
+     *
+     * @return the diameter, 0 for a graph without edges
+     */
+    public int run() {
+        int vertexCount = graph.getVertexCount();
+        lowerBounds = new AtomicIntegerArray(vertexCount);
+        upperBounds = new AtomicIntegerArray(vertexCount);
+        bfsCount.set(0);
+
+        ConnectedComponents components = graph.connectedComponents();
+        int[] componentOffsets = components.getOffsets();
+        int[] componentVertices = components.getVertices();
+        for (int component = 0; component < components.getComponentCount(); component++) {
+            for (int i = componentOffsets[component]; i < componentOffsets[component + 1]; i++) {
+                upperBounds.set(componentVertices[i], components.getComponentSize(component) - 1);
+            }
+        }
+
+        // Largest components first: a component of n vertices has diameter at
+        // most n - 1, so once that is no better than the answer so far the
+        // remaining components need no BFS at all
+        Integer[] bySize = new Integer[components.getComponentCount()];
+        for (int component = 0; component < bySize.length; component++) {
+            bySize[component] = component;
+        }
+        Arrays.sort(bySize, (x, y) -> components.getComponentSize(y) - components.getComponentSize(x));
+
+        diameter = 0;
+        for (int component : bySize) {
+            if (components.getComponentSize(component) - 1 <= diameter) {
+                break;
+            }
+            diameter = Math.max(diameter, componentDiameter(componentVertices, componentOffsets[component],
+                    componentOffsets[component + 1]));
+        }
+        return diameter;
+    }
+
+    /**
+     * iFUB on one component, whose vertices are vertices[from .. to - 1].
+     */
+    private int componentDiameter(int[] vertices, int from, int to) {
+        // Double sweep from the highest-degree vertex
+        int start = vertices[from];
+        for (int i = from; i < to; i++) {
+            if (graph.getDegree(vertices[i]) > graph.getDegree(start)) {
+                start = vertices[i];
+            }
+        }
+        // Sweep levels are indexed like the component: levels[k] belongs to
+        // vertices[from + k]
+        int[] startLevels = sweep(start, vertices, from, to);
+        int a = vertices[from + farthest(startLevels)];
+        int[] aLevels = sweep(a, vertices, from, to);
+        int farthestFromA = farthest(aLevels);
+        int b = vertices[from + farthestFromA];
+        int lowerBound = aLevels[farthestFromA];
+        int[] bLevels = sweep(b, vertices, from, to);
+
+        // u: the middle vertex of a shortest a-b path
+        int u = a;
+        for (int k = 0; k < to - from; k++) {
+            if (aLevels[k] + bLevels[k] == lowerBound && aLevels[k] == lowerBound / 2) {
+                u = vertices[from + k];
+                break;
+            }
+        }
+
+        int[] uLevels = sweep(u, vertices, from, to);
+        int eccentricityU = uLevels[farthest(uLevels)];
+        lowerBound = Math.max(lowerBound, eccentricityU);
+        int upperBound = 2 * eccentricityU;
+
+        // Group the component's vertices by their level from u
+        int[] levelStarts = new int[eccentricityU + 2];
+        for (int k = 0; k < to - from; k++) {
+            levelStarts[uLevels[k] + 1]++;
+        }
+        for (int level = 0; level <= eccentricityU; level++) {
+            levelStarts[level + 1] += levelStarts[level];
+        }
+        int[] byLevel = new int[to - from];
+        int[] cursor = levelStarts.clone();
+        for (int k = 0; k < to - from; k++) {
+            byLevel[cursor[uLevels[k]]++] = vertices[from + k];
+        }
+
+        for (int level = eccentricityU; upperBound > lowerBound && level > 0; level--) {
+            AtomicInteger fringeMax = new AtomicInteger(lowerBound);
+            final int[] fringe = byLevel;
+            ParallelLoop.forEach(pool, levelStarts[level], levelStarts[level + 1], 1, i -> {
+                int vertex = fringe[i];
+                // Skip vertices whose bounds show they cannot raise the maximum
+                if (upperBounds.get(vertex) > fringeMax.get()) {
+                    int eccentricity = eccentricity(vertex);
+                    fringeMax.accumulateAndGet(eccentricity, Math::max);
+                } else {
+                    fringeMax.accumulateAndGet(lowerBounds.get(vertex), Math::max);
+                }
+            });
+
+            lowerBound = Math.max(lowerBound, fringeMax.get());
+            if (lowerBound > 2 * (level - 1)) {
+                return lowerBound;
+            }
+            upperBound = 2 * (level - 1);
+        }
+        return lowerBound;
+    }
+
+    /**
+     * BFS from a vertex of the component vertices[from .. to - 1] that also
+     * tightens the bounds of the component. Runs over the calling thread's
+     * scratch arrays, so the only allocation is the result.
+     *
+     * @return the level of vertices[from + k] at index k
+     */
+    private int[] sweep(int source, int[] vertices, int from, int to) {
+        TraversalScratch context = graph.scratch();
+        try {
+            breadthFirst(source, context);
+            int[] levels = new int[to - from];
+            for (int i = from; i < to; i++) {
+                levels[i - from] = context.cursors[vertices[i]];
+            }
+            return levels;
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Eccentricity of one vertex by a BFS over the calling thread's scratch
+     * arrays; also tightens the bounds of every vertex it reaches.
+     */
+    private int eccentricity(int source) {
+        TraversalScratch context = graph.scratch();
+        try {
+            return context.cursors[context.queue[breadthFirst(source, context) - 1]];
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * BFS from source that leaves the visited vertices in context.queue and
+     * their levels in context.cursors, and tightens the bounds of every vertex
+     * it reaches.
+     *
+     * @return the number of vertices reached
+     */
+    private int breadthFirst(int source, TraversalScratch context) {
+        bfsCount.incrementAndGet();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        context.reset();
+        int[] queue = context.queue;
+        int[] levels = context.cursors;
+        int head = 0;
+        int tail = 0;
+
+        context.mark(source);
+        levels[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int currentVertex = queue[head++];
+            for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                int neighbor = targets[i];
+                if (context.mark(neighbor)) {
+                    levels[neighbor] = levels[currentVertex] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        int eccentricity = levels[queue[tail - 1]];
+        for (int i = 0; i < tail; i++) {
+            tighten(queue[i], levels[queue[i]], eccentricity);
+        }
+        return tail;
+    }
+
+    private void tighten(int vertex, int distance, int sourceEccentricity) {
+        lowerBounds.accumulateAndGet(vertex, Math.max(distance, sourceEccentricity - distance), Math::max);
+        upperBounds.accumulateAndGet(vertex, sourceEccentricity + distance, Math::min);
+    }
+
+    private static int farthest(int[] levels) {
+        int best = 0;
+        for (int k = 1; k < levels.length; k++) {
+            if (levels[k] > levels[best]) {
+                best = k;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * getDiameter method gets the diameter found by the last run, -1 before
+     * the first run
+     */
+    public int getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * getBfsCount method gets the number of BFS passes the last run needed
+     */
+    public int getBfsCount() {
+        return bfsCount.get();
+    }
+
+    /**
+     * getEccentricityLowerBound method gets the best lower bound on the
+     * eccentricity of a vertex found by the last run
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public int getEccentricityLowerBound(int vertex) {
+        return lowerBounds.get(vertex);
+    }
+
+    /**
+     * getEccentricityUpperBound method gets the best upper bound on the
+     * eccentricity of a vertex found by the last run
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public int getEccentricityUpperBound(int vertex) {
+        return upperBounds.get(vertex);
+    }
+
+    /**
+     * Main method for DiameterEngine: prints the diameter and BFS count of
+     * every graph in a file, or of a generated R-MAT graph when the argument
+     * is a number (its scale).
+     *
+     * @param args-> gets the name of the file or an R-MAT scale from the
+     *             command line.
+     */
+    public static void main(String[] args) {
+        if (args[0].matches("\\d+")) {
+            int scale = Integer.parseInt(args[0]);
+            Graph graph = GraphGenerator.rmat(scale, 8, 42L);
+            DiameterEngine engine = new DiameterEngine(graph);
+            long start = System.nanoTime();
+            int diameter = engine.run();
+            System.out.printf("R-MAT scale %d: diameter %d after %d BFS passes (%.0f ms)%n", scale, diameter,
+                    engine.getBfsCount(), (System.nanoTime() - start) / 1e6);
+            return;
+        }
+
+        try {
+            ArrayList<Graph> graphs = graphcc.readFile(args[0]);
+            int count = 0;
+            for (Graph g : graphs) {
+                count++;
+                DiameterEngine engine = new DiameterEngine(g);
+                int diameter = engine.run();
+                System.out.println("G" + count + ": diameter " + diameter + " after " + engine.getBfsCount()
+                        + " BFS passes (" + g.getVertexCount() + " vertices)");
+            }
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+    }
+}
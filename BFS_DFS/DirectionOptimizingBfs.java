@@ -0,0 +1,192 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+
+/**
+ * <DirectionOptimizingBfs class computes BFS levels with Beamer's
+ * direction-optimizing search>
+ *
+ * Small frontiers are expanded top-down from a queue, exactly like
+ * Graph.breadthFirstLevels. When the edges leaving the frontier outnumber the
+ * edges of the unvisited vertices by more than a factor of 1/alpha, the search
+ * switches to bottom-up: every unvisited vertex scans its own neighbors for a
+ * parent in a bitmap frontier and stops at the first one found. Once the
+ * frontier shrinks below |V|/beta vertices it switches back to top-down.
+ * Levels and the visited set are the same as the queue-based search.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class DirectionOptimizingBfs {
+
+    /** Default top-down to bottom-up switch factor (Beamer et al.). */
+    public static final int DEFAULT_ALPHA = 15;
+
+    /** Default bottom-up to top-down switch factor (Beamer et al.). */
+    public static final int DEFAULT_BETA = 18;
+
+    private final Graph graph;
+    private final int alpha;
+    private final int beta;
+
+    private int topDownSteps;
+    private int bottomUpSteps;
+
+    /**
+     * constructor for the class DirectionOptimizingBfs with the default
+     * switch thresholds
+     *
+     * @param graph the graph to search
+     */
+    public DirectionOptimizingBfs(Graph graph) {
+        this(graph, DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * constructor for the class DirectionOptimizingBfs
+     *
+     * @param graph the graph to search
+     * @param alpha switch to bottom-up once frontier edges exceed unexplored
+     *              edges / alpha; larger values switch earlier
+     * @param beta  switch back to top-down once the frontier holds fewer than
+     *              |V| / beta vertices; larger values switch later
+     */
+    public DirectionOptimizingBfs(Graph graph, int alpha, int beta) {
+        if (alpha <= 0 || beta <= 0) {
+            throw new IllegalArgumentException("alpha and beta must be positive");
+        }
+        this.graph = graph;
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Computes the BFS level of every vertex from a given vertex.
+     *
+     * @param startVertex The starting vertex for BFS.
+     * @return the level of every vertex, or -1 for vertices that cannot be
+     *         reached from startVertex
+     */
+    public int[] levels(int startVertex) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+
+        int[] levels = new int[vertexCount];
+        Arrays.fill(levels, -1);
+        int[] frontier = new int[vertexCount];
+        int[] next = new int[vertexCount];
+        long[] frontierBits = new long[(vertexCount + 63) >>> 6];
+        long[] nextBits = new long[frontierBits.length];
+
+        topDownSteps = 0;
+        bottomUpSteps = 0;
+
+        levels[startVertex] = 0;
+        frontier[0] = startVertex;
+        int frontierSize = 1;
+        long frontierEdges = offsets[startVertex + 1] - offsets[startVertex];
+        long unexploredEdges = targets.length - frontierEdges;
+        boolean bottomUp = false;
+        int level = 0;
+
+        while (frontierSize > 0) {
+            int previousSize = frontierSize;
+
+            if (!bottomUp && frontierEdges > unexploredEdges / alpha) {
+                // The frontier is heavy: hand it over to bottom-up as a bitmap
+                Arrays.fill(frontierBits, 0L);
+                for (int i = 0; i < frontierSize; i++) {
+                    frontierBits[frontier[i] >>> 6] |= 1L << frontier[i];
+                }
+                bottomUp = true;
+            }
+
+            int nextLevel = level + 1;
+            int nextSize = 0;
+            long nextEdges = 0;
+
+            if (bottomUp) {
+                bottomUpSteps++;
+                Arrays.fill(nextBits, 0L);
+                for (int vertex = 0; vertex < vertexCount; vertex++) {
+                    if (levels[vertex] != -1) {
+                        continue;
+                    }
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                        int parent = targets[i];
+                        if ((frontierBits[parent >>> 6] & (1L << parent)) != 0) {
+                            levels[vertex] = nextLevel;
+                            nextBits[vertex >>> 6] |= 1L << vertex;
+                            nextSize++;
+                            nextEdges += offsets[vertex + 1] - offsets[vertex];
+                            break;
+                        }
+                    }
+                }
+                long[] swap = frontierBits;
+                frontierBits = nextBits;
+                nextBits = swap;
+
+                if (nextSize < vertexCount / beta && nextSize < previousSize) {
+                    // The frontier is small again: go back to a queue
+                    int size = 0;
+                    for (int word = 0; word < frontierBits.length; word++) {
+                        long bits = frontierBits[word];
+                        while (bits != 0) {
+                            frontier[size++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                            bits &= bits - 1;
+                        }
+                    }
+                    bottomUp = false;
+                }
+            } else {
+                topDownSteps++;
+                for (int f = 0; f < frontierSize; f++) {
+                    int currentVertex = frontier[f];
+                    for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                        int neighbor = targets[i];
+                        if (levels[neighbor] == -1) {
+                            levels[neighbor] = nextLevel;
+                            next[nextSize++] = neighbor;
+                            nextEdges += offsets[neighbor + 1] - offsets[neighbor];
+                        }
+                    }
+                }
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+            }
+
+            frontierSize = nextSize;
+            frontierEdges = nextEdges;
+            unexploredEdges -= nextEdges;
+            level = nextLevel;
+        }
+
+        return levels;
+    }
+
+    /**
+     * getTopDownSteps method gets the number of levels the last search expanded
+     * top-down
+     */
+    public int getTopDownSteps() {
+        return topDownSteps;
+    }
+
+    /**
+     * getBottomUpSteps method gets the number of levels the last search
+     * expanded bottom-up
+     */
+    public int getBottomUpSteps() {
+        return bottomUpSteps;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Random;
+
+/**
+ * <GraphGenerator class builds large random undirected graphs for the
+ * benchmarks>
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class GraphGenerator {
+
+    private GraphGenerator() {
+    }
+
+    /**
+     * Builds an R-MAT graph (Chakrabarti et al.) with 2^scale vertices and
+     * edgeFactor * 2^scale edges. With the usual Graph500 probabilities the
+     * degrees follow a power law and the diameter is small.
+     *
+     * @param scale      log2 of the vertex count
+     * @param edgeFactor edges per vertex
+     * @param seed       random seed
+     * @return the frozen graph
+     */
+    public static Graph rmat(int scale, int edgeFactor, long seed) {
+        int vertexCount = 1 << scale;
+        long edgeCount = (long) edgeFactor * vertexCount;
+        Random random = new Random(seed);
+        Graph graph = new Graph();
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex(i);
+        }
+
+        for (long e = 0; e < edgeCount; e++) {
+            int u = 0;
+            int v = 0;
+            for (int bit = scale - 1; bit >= 0; bit--) {
+                double r = random.nextDouble();
+                if (r < 0.57) {
+                    // top-left quadrant: neither bit set
+                } else if (r < 0.76) {
+                    v |= 1 << bit;
+                } else if (r < 0.95) {
+                    u |= 1 << bit;
+                } else {
+                    u |= 1 << bit;
+                    v |= 1 << bit;
+                }
+            }
+            graph.addEdge(u, v);
+        }
+
+        graph.freeze();
+        return graph;
+    }
+
+    /**
+     * Builds a random graph where every vertex draws edgeFactor neighbors
+     * uniformly at random.
+     *
+     * @param vertexCount number of vertices
+     * @param edgeFactor  edges per vertex
+     * @param seed        random seed
+     * @return the frozen graph
+     */
+    public static Graph uniform(int vertexCount, int edgeFactor, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph();
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex(i);
+        }
+        for (int u = 0; u < vertexCount; u++) {
+            for (int k = 0; k < edgeFactor; k++) {
+                graph.addEdge(u, random.nextInt(vertexCount));
+            }
+        }
+        graph.freeze();
+        return graph;
+    }
+
+    /**
+     * Builds a width x height grid graph whose vertex ids are randomly
+     * shuffled, so neighbors in the grid are scattered across memory.
+     *
+     * @param width  grid columns
+     * @param height grid rows
+     * @param seed   random seed for the shuffle
+     * @return the frozen graph
+     */
+    public static Graph shuffledGrid(int width, int height, long seed) {
+        int vertexCount = width * height;
+        Random random = new Random(seed);
+        int[] label = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            label[i] = i;
+        }
+        for (int i = vertexCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = label[i];
+            label[i] = label[j];
+            label[j] = swap;
+        }
+
+        Graph graph = new Graph();
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex(i);
+        }
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                int cell = row * width + column;
+                if (column + 1 < width) {
+                    graph.addEdge(label[cell], label[cell + 1]);
+                }
+                if (row + 1 < height) {
+                    graph.addEdge(label[cell], label[cell + width]);
+                }
+            }
+        }
+        graph.freeze();
+        return graph;
+    }
+}
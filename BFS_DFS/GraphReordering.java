@@ -0,0 +1,261 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <GraphReordering class computes vertex orderings that place neighbors close
+ * together in memory and relabels a Graph with them>
+ *
+ * Every strategy returns newIds, where newIds[v] is the position of vertex v
+ * in the new order; Graph.relabel applies it in place. The relabeled graph
+ * remembers the input ids, and toOriginalIds / toOriginalIndexing translate
+ * traversal results back to them.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class GraphReordering {
+
+    /**
+     * The available orderings.
+     */
+    public enum Strategy {
+        /** Reverse Cuthill-McKee: BFS by increasing degree, reversed; lowers bandwidth. */
+        REVERSE_CUTHILL_MCKEE,
+        /** Highest degree first, so hub vertices share cache lines. */
+        DEGREE_DESCENDING,
+        /** Order in which BFS from the smallest vertex of each component reaches the vertices. */
+        BFS_ORDER
+    }
+
+    private GraphReordering() {
+    }
+
+    /**
+     * Relabels a graph in place with the given strategy.
+     *
+     * @param graph    the graph to relabel
+     * @param strategy the ordering to use
+     */
+    public static void reorder(Graph graph, Strategy strategy) {
+        graph.relabel(computeOrder(graph, strategy));
+    }
+
+    /**
+     * Computes the new id of every vertex for a strategy without changing the
+     * graph.
+     *
+     * @param graph    the graph to order
+     * @param strategy the ordering to use
+     * @return newIds, a permutation of the vertices
+     */
+    public static int[] computeOrder(Graph graph, Strategy strategy) {
+        switch (strategy) {
+            case REVERSE_CUTHILL_MCKEE:
+                return reverseCuthillMcKee(graph);
+            case DEGREE_DESCENDING:
+                return degreeDescending(graph);
+            case BFS_ORDER:
+                return idsFromOrder(graph.connectedComponents().getVertices());
+            default:
+                throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+    }
+
+    /**
+     * Reverse Cuthill-McKee ordering. Each component is searched breadth-first
+     * from one of its minimum-degree vertices, visiting the unvisited
+     * neighbors of every vertex by increasing degree, and the final order is
+     * reversed.
+     */
+    private static int[] reverseCuthillMcKee(Graph graph) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+
+        boolean[] visited = new boolean[vertexCount];
+        int[] order = new int[vertexCount];
+        int tail = 0;
+        // Neighbors of one vertex packed as (degree << 32 | vertex) for sorting
+        long[] keys = new long[16];
+
+        for (int start : byDegree(graph, false)) {
+            if (visited[start]) {
+                continue;
+            }
+            int head = tail;
+            visited[start] = true;
+            order[tail++] = start;
+
+            while (head < tail) {
+                int currentVertex = order[head++];
+                int count = 0;
+                for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    if (!visited[neighbor]) {
+                        visited[neighbor] = true;
+                        if (count == keys.length) {
+                            keys = Arrays.copyOf(keys, count * 2);
+                        }
+                        keys[count++] = ((long) graph.getDegree(neighbor) << 32) | neighbor;
+                    }
+                }
+                Arrays.sort(keys, 0, count);
+                for (int k = 0; k < count; k++) {
+                    order[tail++] = (int) keys[k];
+                }
+            }
+        }
+
+        // Reverse
+        int[] newIds = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            newIds[order[i]] = vertexCount - 1 - i;
+        }
+        return newIds;
+    }
+
+    private static int[] degreeDescending(Graph graph) {
+        return idsFromOrder(byDegree(graph, true));
+    }
+
+    /**
+     * Sorts the vertices by degree with a counting sort, ties by vertex id.
+     */
+    private static int[] byDegree(Graph graph, boolean descending) {
+        int vertexCount = graph.getVertexCount();
+        int maxDegree = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            maxDegree = Math.max(maxDegree, graph.getDegree(vertex));
+        }
+
+        int[] bucketStarts = new int[maxDegree + 2];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int degree = graph.getDegree(vertex);
+            bucketStarts[(descending ? maxDegree - degree : degree) + 1]++;
+        }
+        for (int bucket = 0; bucket <= maxDegree; bucket++) {
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+        int[] order = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int degree = graph.getDegree(vertex);
+            order[bucketStarts[descending ? maxDegree - degree : degree]++] = vertex;
+        }
+        return order;
+    }
+
+    /**
+     * Turns a list of vertices in their new order into newIds.
+     */
+    private static int[] idsFromOrder(int[] order) {
+        int[] newIds = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            newIds[order[i]] = i;
+        }
+        return newIds;
+    }
+
+    /**
+     * Translates vertex ids of a relabeled graph back to the ids the vertices
+     * were added with.
+     *
+     * @param graph    the relabeled graph
+     * @param vertices current vertex ids
+     * @return a new array with the original ids, in the same order
+     */
+    public static int[] toOriginalIds(Graph graph, int[] vertices) {
+        int[] originals = new int[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            originals[i] = graph.getOriginalId(vertices[i]);
+        }
+        return originals;
+    }
+
+    /**
+     * Moves a per-vertex result of a relabeled graph, such as BFS levels or
+     * component ids, to original-id indexing.
+     *
+     * @param graph          the relabeled graph
+     * @param valuesByVertex a value for every current vertex id
+     * @return a new array where entry i is the value of original vertex i
+     */
+    public static int[] toOriginalIndexing(Graph graph, int[] valuesByVertex) {
+        int[] byOriginal = new int[valuesByVertex.length];
+        for (int vertex = 0; vertex < valuesByVertex.length; vertex++) {
+            byOriginal[graph.getOriginalId(vertex)] = valuesByVertex[vertex];
+        }
+        return byOriginal;
+    }
+
+    /**
+     * Main method for GraphReordering: times BFS on large generated graphs
+     * before and after every reordering strategy.
+     *
+     * @param args-> optional grid side length and R-MAT scale.
+     */
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 1500;
+        int scale = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        System.out.println("Shuffled " + side + "x" + side + " grid:");
+        for (Strategy strategy : Strategy.values()) {
+            benchmark(GraphGenerator.shuffledGrid(side, side, 42L), strategy);
+        }
+        System.out.println("R-MAT scale " + scale + ", edge factor 8:");
+        for (Strategy strategy : Strategy.values()) {
+            benchmark(GraphGenerator.rmat(scale, 8, 42L), strategy);
+        }
+    }
+
+    private static void benchmark(Graph graph, Strategy strategy) {
+        int searches = 5;
+        Random random = new Random(7L);
+        int[] sources = new int[searches];
+        for (int i = 0; i < searches; i++) {
+            sources[i] = random.nextInt(graph.getVertexCount());
+        }
+
+        int[][] before = new int[searches][];
+        long start = 0;
+        for (int round = 0; round < 2; round++) {
+            // First round warms up
+            start = System.nanoTime();
+            for (int i = 0; i < searches; i++) {
+                before[i] = graph.breadthFirstLevels(sources[i]);
+            }
+        }
+        long beforeTime = System.nanoTime() - start;
+
+        long reorderStart = System.nanoTime();
+        reorder(graph, strategy);
+        long reorderTime = System.nanoTime() - reorderStart;
+
+        int[][] after = new int[searches][];
+        for (int round = 0; round < 2; round++) {
+            start = System.nanoTime();
+            for (int i = 0; i < searches; i++) {
+                after[i] = graph.breadthFirstLevels(graph.getVertexId(sources[i]));
+            }
+        }
+        long afterTime = System.nanoTime() - start;
+
+        for (int i = 0; i < searches; i++) {
+            if (!Arrays.equals(before[i], toOriginalIndexing(graph, after[i]))) {
+                throw new IllegalStateException("Levels changed after " + strategy);
+            }
+        }
+
+        System.out.printf("  %-22s before %7.1f ms/BFS, after %7.1f ms/BFS (%.2fx), reorder took %.0f ms%n",
+                strategy, beforeTime / 1e6 / searches, afterTime / 1e6 / searches,
+                (double) beforeTime / afterTime, reorderTime / 1e6);
+    }
+}
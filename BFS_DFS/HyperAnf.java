@@ -0,0 +1,346 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <HyperAnf class approximates the neighborhood function of an undirected
+ * Graph with HyperLogLog counters (HyperANF, Boldi, Rosa and Vigna)>
+ *
+ * Every vertex gets a HyperLogLog counter of 2^log2m 8-bit registers, packed
+ * eight to a long, that starts out holding only the vertex itself. Iteration
+ * t + 1 sets the counter of v to the union of its own counter and those of
+ * its neighbors after iteration t, so after h iterations the counter of v
+ * estimates |B(v, h)|, the number of vertices within h hops. A union is a
+ * register-wise maximum, done eight registers at a time with broadword
+ * arithmetic. Each iteration is one pass over the edges, split over vertex
+ * ranges on a ForkJoinPool, and the counters stop changing after about
+ * diameter iterations. The relative standard error is about 1.04 / sqrt(2^log2m).
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class HyperAnf {
+
+    // Vertices updated sequentially by one fork-join leaf
+    private static final int GRAIN = 1024;
+
+    // High bit of every byte lane
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    // Added to every vertex id before hashing, so vertex 0 does not hash to 0
+    private static final long HASH_OFFSET = 0x9e3779b97f4a7c15L;
+
+    private final Graph graph;
+    private final int log2m;
+    private final int registers;
+    private final int wordsPerCounter;
+    private final ForkJoinPool pool;
+    private int iterations;
+
+    /**
+     * constructor for the class HyperAnf using the common ForkJoinPool
+     *
+     * @param graph the undirected graph to sketch
+     * @param log2m log2 of the registers per counter, 4 to 16
+     */
+    public HyperAnf(Graph graph, int log2m) {
+        this(graph, log2m, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class HyperAnf
+     *
+     * @param graph the undirected graph to sketch
+     * @param log2m log2 of the registers per counter, 4 to 16
+     * @param pool  the pool the iterations run on
+     */
+    public HyperAnf(Graph graph, int log2m, ForkJoinPool pool) {
+        if (log2m < 4 || log2m > 16) {
+            throw new IllegalArgumentException("log2m must be between 4 and 16");
+        }
+        this.graph = graph;
+        this.log2m = log2m;
+        this.registers = 1 << log2m;
+        this.wordsPerCounter = registers / 8;
+        this.pool = pool;
+    }
+
+    /**
+     * Estimates the neighborhood function: entry h is the number of ordered
+     * pairs (u, v) with v within h hops of u. Iterates until no counter
+     * changes, so the last entry is the estimated number of reachable pairs.
+     *
+     * @return the estimated neighborhood function N(0), N(1), ...
+     */
+    public double[] neighborhoodFunction() {
+        double[] function = new double[8];
+        long[] current = initialCounters();
+        long[] next = new long[current.length];
+        function[0] = total(current);
+        iterations = 0;
+
+        while (true) {
+            boolean changed = iterate(current, next);
+            if (!changed) {
+                break;
+            }
+            long[] swap = current;
+            current = next;
+            next = swap;
+            iterations++;
+            if (iterations == function.length) {
+                function = Arrays.copyOf(function, iterations * 2);
+            }
+            function[iterations] = total(current);
+        }
+
+        return Arrays.copyOf(function, iterations + 1);
+    }
+
+    /**
+     * Estimates for every vertex how many vertices lie within h hops of it,
+     * itself included.
+     *
+     * @param h- the number of hops
+     * @return the estimated ball size of every vertex
+     */
+    public double[] ballSizes(int h) {
+        long[] current = initialCounters();
+        long[] next = new long[current.length];
+        iterations = 0;
+        while (iterations < h && iterate(current, next)) {
+            long[] swap = current;
+            current = next;
+            next = swap;
+            iterations++;
+        }
+
+        double[] sizes = new double[graph.getVertexCount()];
+        for (int vertex = 0; vertex < sizes.length; vertex++) {
+            sizes[vertex] = estimate(current, vertex);
+        }
+        return sizes;
+    }
+
+    /**
+     * getIterations method gets the number of iterations the last call ran
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Computes the effective diameter: the smallest h, interpolated between
+     * integers, at which N(h) reaches the given fraction of all reachable
+     * pairs.
+     *
+     * @param function a neighborhood function
+     * @param fraction usually 0.9
+     * @return the effective diameter
+     */
+    public static double effectiveDiameter(double[] function, double fraction) {
+        double goal = fraction * function[function.length - 1];
+        for (int h = 0; h < function.length; h++) {
+            if (function[h] >= goal) {
+                if (h == 0) {
+                    return 0;
+                }
+                return h - 1 + (goal - function[h - 1]) / (function[h] - function[h - 1]);
+            }
+        }
+        return function.length - 1;
+    }
+
+    /**
+     * One iteration: next[v] = current[v] united with current[u] for every
+     * neighbor u.
+     *
+     * @return true if any counter changed
+     */
+    private boolean iterate(long[] current, long[] next) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int words = wordsPerCounter;
+        int vertexCount = graph.getVertexCount();
+        boolean[] changed = new boolean[(vertexCount + GRAIN - 1) / GRAIN];
+
+        ParallelLoop.forEach(pool, 0, changed.length, 1, range -> {
+            int to = Math.min((range + 1) * GRAIN, vertexCount);
+            boolean rangeChanged = false;
+            for (int vertex = range * GRAIN; vertex < to; vertex++) {
+                int base = vertex * words;
+                System.arraycopy(current, base, next, base, words);
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    int neighborBase = targets[i] * words;
+                    for (int w = 0; w < words; w++) {
+                        next[base + w] = max8(next[base + w], current[neighborBase + w]);
+                    }
+                }
+                if (!rangeChanged) {
+                    for (int w = 0; w < words; w++) {
+                        if (next[base + w] != current[base + w]) {
+                            rangeChanged = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            changed[range] = rangeChanged;
+        });
+
+        for (boolean rangeChanged : changed) {
+            if (rangeChanged) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lane-wise maximum of eight unsigned 7-bit values packed in the bytes of
+     * x and y. (x | HIGH_BITS) - y never borrows across lanes, and its high
+     * bit in a lane is set exactly when x &gt;= y there.
+     */
+    static long max8(long x, long y) {
+        long xNotSmaller = (((x | HIGH_BITS) - y) & HIGH_BITS) >>> 7;
+        long mask = xNotSmaller * 0xFF;
+        return (x & mask) | (y & ~mask);
+    }
+
+    /**
+     * Counters holding only their own vertex.
+     */
+    private long[] initialCounters() {
+        int vertexCount = graph.getVertexCount();
+        long[] counters = new long[vertexCount * wordsPerCounter];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            long hash = mix(vertex + HASH_OFFSET);
+            int register = (int) (hash >>> (64 - log2m));
+            // Rank of the first one bit in the remaining bits, capped to fit 7 bits
+            long rest = (hash << log2m) | (1L << (log2m - 1));
+            int rank = Long.numberOfLeadingZeros(rest) + 1;
+            int index = vertex * wordsPerCounter + (register >>> 3);
+            counters[index] |= (long) rank << ((register & 7) << 3);
+        }
+        return counters;
+    }
+
+    /**
+     * HyperLogLog estimate of one counter, with the small-range (linear
+     * counting) correction.
+     */
+    private double estimate(long[] counters, int vertex) {
+        double sum = 0;
+        int zeros = 0;
+        int base = vertex * wordsPerCounter;
+        for (int w = 0; w < wordsPerCounter; w++) {
+            long word = counters[base + w];
+            for (int lane = 0; lane < 8; lane++) {
+                int value = (int) ((word >>> (lane << 3)) & 0xFF);
+                sum += Math.scalb(1.0, -value);
+                if (value == 0) {
+                    zeros++;
+                }
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / registers);
+        double raw = alpha * registers * registers / sum;
+        if (raw <= 2.5 * registers && zeros > 0) {
+            return registers * Math.log((double) registers / zeros);
+        }
+        return raw;
+    }
+
+    private double total(long[] counters) {
+        double sum = 0;
+        for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+            sum += estimate(counters, vertex);
+        }
+        return sum;
+    }
+
+    /**
+     * 64-bit finalizer of MurmurHash3, used to hash vertex ids. It maps 0 to
+     * 0, so ids are offset by HASH_OFFSET first.
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    /**
+     * Main method for HyperAnf: compares the estimated neighborhood function
+     * with the exact one for every graph in a file, or prints it for a
+     * generated R-MAT graph when the argument is a number (its scale).
+     *
+     * @param args-> gets the name of the file or an R-MAT scale, and
+     *             optionally log2m, from the command line.
+     */
+    public static void main(String[] args) {
+        int log2m = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        if (args[0].matches("\\d+")) {
+            int scale = Integer.parseInt(args[0]);
+            Graph graph = GraphGenerator.rmat(scale, 8, 42L);
+            HyperAnf anf = new HyperAnf(graph, log2m);
+            long start = System.nanoTime();
+            double[] function = anf.neighborhoodFunction();
+            System.out.printf("R-MAT scale %d, 2^%d registers: %d iterations in %.0f ms%n", scale, log2m,
+                    anf.getIterations(), (System.nanoTime() - start) / 1e6);
+            for (int h = 0; h < function.length; h++) {
+                System.out.printf("  N(%d) = %.4g%n", h, function[h]);
+            }
+            System.out.printf("effective diameter (90%%): %.2f%n", effectiveDiameter(function, 0.9));
+            return;
+        }
+
+        try {
+            ArrayList<Graph> graphs = graphcc.readFile(args[0]);
+            int count = 0;
+            for (Graph g : graphs) {
+                count++;
+                double[] estimated = new HyperAnf(g, log2m).neighborhoodFunction();
+
+                // Exact neighborhood function from one BFS per vertex
+                long[] exact = new long[g.getVertexCount() + 1];
+                int depth = 0;
+                for (int source = 0; source < g.getVertexCount(); source++) {
+                    for (int level : g.breadthFirstLevels(source)) {
+                        if (level >= 0) {
+                            exact[level]++;
+                            depth = Math.max(depth, level);
+                        }
+                    }
+                }
+                for (int h = 1; h <= depth; h++) {
+                    exact[h] += exact[h - 1];
+                }
+
+                double worst = 0;
+                for (int h = 0; h <= depth; h++) {
+                    double value = estimated[Math.min(h, estimated.length - 1)];
+                    worst = Math.max(worst, Math.abs(value - exact[h]) / exact[h]);
+                }
+                System.out.printf("G%d: exact pairs %d, estimated %.1f, worst relative error %.3f%n", count,
+                        exact[depth], estimated[estimated.length - 1], worst);
+            }
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+    }
+}
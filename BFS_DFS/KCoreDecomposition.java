@@ -0,0 +1,346 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <KCoreDecomposition class computes the core number of every vertex of an
+ * undirected Graph>
+ *
+ * The core number of v is the largest k such that v belongs to a subgraph in
+ * which every vertex has degree at least k. The sequential decomposition is
+ * the O(V + E) bucket algorithm of Batagelj and Zaversnik: vertices are kept
+ * sorted by current degree in one array, the vertex of smallest degree is
+ * peeled off and each of its remaining neighbors moves down one bucket in
+ * constant time. The peeling order is a degeneracy ordering. Self-loops are
+ * not counted in the degrees.
+ *
+ * parallelCoreNumbers peels instead every vertex of the current minimum
+ * degree at once, decrementing neighbor degrees with atomic operations.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class KCoreDecomposition {
+
+    // Frontier vertices handed to one fork-join leaf by the parallel peeling
+    private static final int CHUNK_SIZE = 1024;
+
+    private final Graph graph;
+    private final int[] coreNumbers;
+    private final int[] degeneracyOrder;
+    private final int degeneracy;
+
+    /**
+     * constructor for the class KCoreDecomposition
+     * ->runs the sequential bucket decomposition.
+     *
+     * @param graph the undirected graph to decompose
+     */
+    public KCoreDecomposition(Graph graph) {
+        this.graph = graph;
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+
+        int[] degree = degreesWithoutLoops(graph);
+        int maxDegree = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            maxDegree = Math.max(maxDegree, degree[vertex]);
+        }
+
+        // bin[d] is where the vertices of degree d start in vert[];
+        // pos[v] is the position of v in vert[]
+        int[] bin = new int[maxDegree + 1];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            bin[degree[vertex]]++;
+        }
+        int start = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int count = bin[d];
+            bin[d] = start;
+            start += count;
+        }
+        int[] vert = new int[vertexCount];
+        int[] pos = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            pos[vertex] = bin[degree[vertex]]++;
+            vert[pos[vertex]] = vertex;
+        }
+        for (int d = maxDegree; d > 0; d--) {
+            bin[d] = bin[d - 1];
+        }
+        bin[0] = 0;
+
+        int maxCore = 0;
+        for (int i = 0; i < vertexCount; i++) {
+            int vertex = vert[i];
+            maxCore = Math.max(maxCore, degree[vertex]);
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                int neighbor = targets[e];
+                if (degree[neighbor] > degree[vertex]) {
+                    // Move neighbor to the front of its bucket, then shrink the bucket
+                    int neighborDegree = degree[neighbor];
+                    int neighborPos = pos[neighbor];
+                    int firstPos = bin[neighborDegree];
+                    int first = vert[firstPos];
+                    if (neighbor != first) {
+                        pos[neighbor] = firstPos;
+                        vert[neighborPos] = first;
+                        pos[first] = neighborPos;
+                        vert[firstPos] = neighbor;
+                    }
+                    bin[neighborDegree]++;
+                    degree[neighbor]--;
+                }
+            }
+        }
+
+        coreNumbers = degree;
+        degeneracyOrder = vert;
+        degeneracy = maxCore;
+    }
+
+    /**
+     * Counts the neighbors of every vertex, leaving out self-loops.
+     */
+    private static int[] degreesWithoutLoops(Graph graph) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] degree = new int[graph.getVertexCount()];
+        for (int vertex = 0; vertex < degree.length; vertex++) {
+            int count = 0;
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                if (targets[e] != vertex) {
+                    count++;
+                }
+            }
+            degree[vertex] = count;
+        }
+        return degree;
+    }
+
+    /**
+     * getCoreNumbers method gets the core number of every vertex. The array is
+     * shared with this result and must not be modified.
+     */
+    public int[] getCoreNumbers() {
+        return coreNumbers;
+    }
+
+    /**
+     * getDegeneracyOrder method gets the vertices in the order they were
+     * peeled: every vertex has at most getDegeneracy() neighbors later in the
+     * order. The array is shared with this result and must not be modified.
+     */
+    public int[] getDegeneracyOrder() {
+        return degeneracyOrder;
+    }
+
+    /**
+     * getDegeneracy method gets the largest core number in the graph
+     */
+    public int getDegeneracy() {
+        return degeneracy;
+    }
+
+    /**
+     * kCoreVertices method gets the vertices of the k-core in ascending order.
+     * Vertex i of kCoreSubgraph(k) is kCoreVertices(k)[i].
+     *
+     * @param k- the core to extract
+     */
+    public int[] kCoreVertices(int k) {
+        int count = 0;
+        for (int core : coreNumbers) {
+            if (core >= k) {
+                count++;
+            }
+        }
+        int[] vertices = new int[count];
+        count = 0;
+        for (int vertex = 0; vertex < coreNumbers.length; vertex++) {
+            if (coreNumbers[vertex] >= k) {
+                vertices[count++] = vertex;
+            }
+        }
+        return vertices;
+    }
+
+    /**
+     * kCoreSubgraph method builds the k-core as a new frozen Graph: the
+     * vertices with core number at least k, renumbered 0, 1, 2, ... in
+     * ascending order, and every edge between two of them.
+     *
+     * @param k- the core to extract
+     */
+    public Graph kCoreSubgraph(int k) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] vertices = kCoreVertices(k);
+        int[] newIds = new int[coreNumbers.length];
+        Arrays.fill(newIds, -1);
+        Graph core = new Graph();
+        for (int i = 0; i < vertices.length; i++) {
+            newIds[vertices[i]] = i;
+            core.addVertex(i);
+        }
+
+        for (int vertex : vertices) {
+            boolean loopPending = false;
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                int neighbor = targets[e];
+                if (newIds[neighbor] == -1) {
+                    continue;
+                }
+                // Every edge is stored at both ends; add it from the lower one.
+                // A self-loop is stored twice in its own row.
+                if (vertex < neighbor) {
+                    core.addEdge(newIds[vertex], newIds[neighbor]);
+                } else if (vertex == neighbor) {
+                    if (loopPending) {
+                        core.addEdge(newIds[vertex], newIds[vertex]);
+                    }
+                    loopPending = !loopPending;
+                }
+            }
+        }
+
+        core.freeze();
+        return core;
+    }
+
+    /**
+     * Computes the core number of every vertex by peeling all vertices of the
+     * current minimum degree concurrently. Each round removes one frontier in
+     * parallel; a neighbor whose atomically decremented degree drops to the
+     * current level joins the next frontier, and exactly one worker sees that
+     * drop.
+     *
+     * @param graph the undirected graph to decompose
+     * @param pool  the pool the peeling runs on
+     * @return the core number of every vertex
+     */
+    public static int[] parallelCoreNumbers(Graph graph, ForkJoinPool pool) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+        AtomicIntegerArray degree = new AtomicIntegerArray(degreesWithoutLoops(graph));
+        int[] core = new int[vertexCount];
+        boolean[] removed = new boolean[vertexCount];
+        int remaining = vertexCount;
+
+        while (remaining > 0) {
+            // The next level is the smallest degree left
+            int level = Integer.MAX_VALUE;
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (!removed[vertex]) {
+                    level = Math.min(level, degree.get(vertex));
+                }
+            }
+            int[] frontier = new int[16];
+            int frontierSize = 0;
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (!removed[vertex] && degree.get(vertex) <= level) {
+                    if (frontierSize == frontier.length) {
+                        frontier = Arrays.copyOf(frontier, frontierSize * 2);
+                    }
+                    frontier[frontierSize++] = vertex;
+                }
+            }
+
+            while (frontierSize > 0) {
+                for (int i = 0; i < frontierSize; i++) {
+                    removed[frontier[i]] = true;
+                    core[frontier[i]] = level;
+                }
+                remaining -= frontierSize;
+
+                int chunkCount = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                int[][] buffers = new int[chunkCount][];
+                int[] sizes = new int[chunkCount];
+                final int[] current = frontier;
+                final int currentSize = frontierSize;
+                final int k = level;
+
+                ParallelLoop.forEach(pool, 0, chunkCount, 1, chunk -> {
+                    int[] buffer = new int[16];
+                    int size = 0;
+                    int to = Math.min((chunk + 1) * CHUNK_SIZE, currentSize);
+                    for (int f = chunk * CHUNK_SIZE; f < to; f++) {
+                        int vertex = current[f];
+                        for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                            int neighbor = targets[e];
+                            if (removed[neighbor]) {
+                                continue;
+                            }
+                            if (degree.decrementAndGet(neighbor) == k) {
+                                if (size == buffer.length) {
+                                    buffer = Arrays.copyOf(buffer, size * 2);
+                                }
+                                buffer[size++] = neighbor;
+                            }
+                        }
+                    }
+                    buffers[chunk] = buffer;
+                    sizes[chunk] = size;
+                });
+
+                frontierSize = 0;
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    frontierSize += sizes[chunk];
+                }
+                frontier = new int[Math.max(frontierSize, 1)];
+                int position = 0;
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    System.arraycopy(buffers[chunk], 0, frontier, position, sizes[chunk]);
+                    position += sizes[chunk];
+                }
+            }
+        }
+
+        return core;
+    }
+
+    /**
+     * Main method for KCoreDecomposition: prints the degeneracy and core sizes
+     * of every graph in a file and checks the parallel core numbers against
+     * the sequential ones.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = graphcc.readFile(args[0]);
+            int count = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                KCoreDecomposition decomposition = new KCoreDecomposition(g);
+                boolean same = Arrays.equals(decomposition.getCoreNumbers(),
+                        parallelCoreNumbers(g, ForkJoinPool.commonPool()));
+
+                StringBuilder line = new StringBuilder("G" + count + ": degeneracy "
+                        + decomposition.getDegeneracy() + ", core sizes");
+                for (int k = 1; k <= decomposition.getDegeneracy(); k++) {
+                    line.append(' ').append(k).append(':').append(decomposition.kCoreVertices(k).length);
+                }
+                line.append(same ? ", parallel matches" : ", PARALLEL DIFFERS");
+                System.out.println(line);
+            }
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <MultiSourceBfs class runs many breadth-first searches over the same Graph
+ * at once with bit-parallel MS-BFS (Then et al.)>
+ *
+ * Sources are processed in batches of 64 * wordsPerVertex. Every vertex keeps
+ * seen, frontier and next bitmasks with one bit per source of the batch, so a
+ * single scan of an edge advances every search of the batch that has its tail
+ * in the frontier, and the edge scans are shared by all of them.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class MultiSourceBfs {
+
+    private final Graph graph;
+    private final int wordsPerVertex;
+
+    /**
+     * constructor for the class MultiSourceBfs with batches of 64 sources
+     *
+     * @param graph the graph to search
+     */
+    public MultiSourceBfs(Graph graph) {
+        this(graph, 1);
+    }
+
+    /**
+     * constructor for the class MultiSourceBfs
+     *
+     * @param graph          the graph to search
+     * @param wordsPerVertex long words per vertex per bitmask; every batch runs
+     *                       64 * wordsPerVertex sources
+     * @throws IllegalArgumentException if wordsPerVertex is not positive or
+     *                                  64 * wordsPerVertex does not fit in an
+     *                                  int
+     */
+    public MultiSourceBfs(Graph graph, int wordsPerVertex) {
+        if (wordsPerVertex <= 0 || wordsPerVertex > Integer.MAX_VALUE / 64) {
+            throw new IllegalArgumentException("wordsPerVertex must be between 1 and " + Integer.MAX_VALUE / 64);
+        }
+        this.graph = graph;
+        this.wordsPerVertex = wordsPerVertex;
+    }
+
+    /**
+     * Computes the hop distance from every source to every vertex.
+     *
+     * @param sources the source vertices; repeats are allowed
+     * @return distances[i][v] is the distance from sources[i] to v, or -1 if v
+     *         cannot be reached from sources[i]
+     * @throws IllegalArgumentException if a bitmask of wordsPerVertex words per
+     *                                  vertex does not fit in one array
+     */
+    public int[][] distances(int[] sources) {
+        int vertexCount = graph.getVertexCount();
+        // Each bitmask is one long array, so it must stay below the array size limit
+        long maskWords = (long) vertexCount * wordsPerVertex;
+        if (maskWords > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(vertexCount + " vertices with " + wordsPerVertex
+                    + " words each do not fit in one bitmask array");
+        }
+        int[][] distances = new int[sources.length][vertexCount];
+        for (int[] row : distances) {
+            Arrays.fill(row, -1);
+        }
+
+        int batchSize = 64 * wordsPerVertex;
+        long[] seen = new long[(int) maskWords];
+        long[] frontier = new long[seen.length];
+        long[] next = new long[seen.length];
+
+        for (int batchStart = 0, batchEnd; batchStart < sources.length; batchStart = batchEnd) {
+            batchEnd = (int) Math.min((long) batchStart + batchSize, sources.length);
+            Arrays.fill(seen, 0L);
+            Arrays.fill(frontier, 0L);
+            runBatch(sources, batchStart, batchEnd, distances, seen, frontier, next);
+        }
+
+        return distances;
+    }
+
+    /**
+     * Runs the searches of sources[batchStart .. batchEnd - 1] together.
+     */
+    private void runBatch(int[] sources, int batchStart, int batchEnd, int[][] distances, long[] seen,
+            long[] frontier, long[] next) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+        int words = wordsPerVertex;
+
+        for (int i = batchStart; i < batchEnd; i++) {
+            int source = sources[i];
+            int bit = i - batchStart;
+            seen[source * words + (bit >>> 6)] |= 1L << bit;
+            frontier[source * words + (bit >>> 6)] |= 1L << bit;
+            distances[i][source] = 0;
+        }
+
+        boolean active = true;
+        for (int level = 1; active; level++) {
+            Arrays.fill(next, 0L);
+
+            // Push every vertex's frontier bits to its neighbors
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                int base = vertex * words;
+                for (int w = 0; w < words; w++) {
+                    long bits = frontier[base + w];
+                    if (bits == 0) {
+                        continue;
+                    }
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                        next[targets[i] * words + w] |= bits;
+                    }
+                }
+            }
+
+            // Keep only the searches that reach a vertex for the first time
+            active = false;
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                int base = vertex * words;
+                for (int w = 0; w < words; w++) {
+                    long fresh = next[base + w] & ~seen[base + w];
+                    frontier[base + w] = fresh;
+                    if (fresh == 0) {
+                        continue;
+                    }
+                    active = true;
+                    seen[base + w] |= fresh;
+                    while (fresh != 0) {
+                        int bit = (w << 6) + Long.numberOfTrailingZeros(fresh);
+                        distances[batchStart + bit][vertex] = level;
+                        fresh &= fresh - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Main method for MultiSourceBfs: compares one MS-BFS run against one
+     * queue-based BFS per source on a generated R-MAT graph.
+     *
+     * @param args-> optional scale, edge factor, source count and words per
+     *             vertex.
+     */
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int edgeFactor = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int sourceCount = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+        int wordsPerVertex = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+        Graph graph = GraphGenerator.rmat(scale, edgeFactor, 42L);
+        Random random = new Random(7L);
+        int[] sources = new int[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            sources[i] = random.nextInt(graph.getVertexCount());
+        }
+        System.out.println("R-MAT scale " + scale + ": " + graph.getVertexCount() + " vertices, "
+                + graph.getEdgeCount() + " edges, " + sourceCount + " sources");
+
+        MultiSourceBfs multiSource = new MultiSourceBfs(graph, wordsPerVertex);
+        int[][] batched = multiSource.distances(sources);
+        for (int i = 0; i < sourceCount; i++) {
+            if (!Arrays.equals(batched[i], graph.breadthFirstLevels(sources[i]))) {
+                throw new IllegalStateException("Distance mismatch for source " + sources[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int source : sources) {
+            graph.breadthFirstLevels(source);
+        }
+        long singleTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        multiSource.distances(sources);
+        long batchedTime = System.nanoTime() - start;
+
+        System.out.printf("one BFS per source: %8.1f ms%n", singleTime / 1e6);
+        System.out.printf("MS-BFS (%d/batch):  %8.1f ms%n", 64 * wordsPerVertex, batchedTime / 1e6);
+        System.out.printf("speedup:            %8.2fx%n", (double) singleTime / batchedTime);
+    }
+}
@@ -0,0 +1,260 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <ParallelBfs class computes BFS levels level by level on a ForkJoinPool>
+ *
+ * Each frontier is cut into chunks that are expanded concurrently. A vertex is
+ * claimed by setting its bit in a shared visited bitmap with a compare-and-set
+ * on the enclosing long word, so exactly one worker records its level and adds
+ * it to that worker's chunk buffer. The chunk buffers are then joined into the
+ * next frontier through a prefix sum over their sizes, without any locking.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class ParallelBfs {
+
+    // Frontiers smaller than this are expanded on the calling thread
+    private static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    // Number of frontier vertices handed to one chunk
+    private static final int CHUNK_SIZE = 1024;
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * constructor for the class ParallelBfs using the common ForkJoinPool
+     *
+     * @param graph the graph to search
+     */
+    public ParallelBfs(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class ParallelBfs
+     *
+     * @param graph the graph to search
+     * @param pool  the pool the frontier expansion runs on
+     */
+    public ParallelBfs(Graph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the BFS level of every vertex from a given vertex.
+     *
+     * @param startVertex The starting vertex for BFS.
+     * @return the level of every vertex, or -1 for vertices that cannot be
+     *         reached from startVertex
+     */
+    public int[] levels(int startVertex) {
+        int vertexCount = graph.getVertexCount();
+        Search search = new Search(graph.getOffsets(), graph.getTargets(), vertexCount);
+
+        search.levels[startVertex] = 0;
+        search.claim(startVertex);
+        int[] frontier = { startVertex };
+        int level = 0;
+
+        while (frontier.length > 0) {
+            level++;
+            if (frontier.length < SEQUENTIAL_THRESHOLD) {
+                frontier = search.expandSequential(frontier, level);
+            } else {
+                frontier = search.expandParallel(frontier, level, pool);
+            }
+        }
+
+        return search.levels;
+    }
+
+    /**
+     * State of one search: the levels, the visited bitmap and the chunk
+     * buffers reused from level to level.
+     */
+    private static final class Search {
+
+        final int[] offsets;
+        final int[] targets;
+        final int[] levels;
+        final AtomicLongArray visited;
+
+        int[][] chunkBuffers = new int[0][];
+        int[] chunkSizes = new int[0];
+
+        Search(int[] offsets, int[] targets, int vertexCount) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.levels = new int[vertexCount];
+            Arrays.fill(levels, -1);
+            this.visited = new AtomicLongArray((vertexCount + 63) >>> 6);
+        }
+
+        /**
+         * Sets the visited bit of a vertex.
+         *
+         * @return true if this call set the bit, false if it was already set
+         */
+        boolean claim(int vertex) {
+            int index = vertex >>> 6;
+            long bit = 1L << vertex;
+            long word = visited.get(index);
+            while ((word & bit) == 0) {
+                if (visited.compareAndSet(index, word, word | bit)) {
+                    return true;
+                }
+                word = visited.get(index);
+            }
+            return false;
+        }
+
+        int[] expandSequential(int[] frontier, int level) {
+            int[] next = new int[16];
+            int size = 0;
+            for (int currentVertex : frontier) {
+                for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    if (claim(neighbor)) {
+                        levels[neighbor] = level;
+                        if (size == next.length) {
+                            next = Arrays.copyOf(next, size * 2);
+                        }
+                        next[size++] = neighbor;
+                    }
+                }
+            }
+            return Arrays.copyOf(next, size);
+        }
+
+        int[] expandParallel(int[] frontier, int level, ForkJoinPool pool) {
+            int chunkCount = (frontier.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            if (chunkBuffers.length < chunkCount) {
+                chunkBuffers = Arrays.copyOf(chunkBuffers, chunkCount);
+                chunkSizes = new int[chunkCount];
+            }
+
+            pool.invoke(new ExpandTask(this, frontier, level, 0, chunkCount));
+
+            // Each chunk owns a disjoint slice of the next frontier
+            int[] chunkStarts = new int[chunkCount + 1];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                chunkStarts[chunk + 1] = chunkStarts[chunk] + chunkSizes[chunk];
+            }
+            int[] next = new int[chunkStarts[chunkCount]];
+            pool.invoke(new CopyTask(this, next, chunkStarts, 0, chunkCount));
+            return next;
+        }
+
+        void expandChunk(int[] frontier, int level, int chunk) {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, frontier.length);
+            int[] buffer = chunkBuffers[chunk];
+            if (buffer == null) {
+                buffer = new int[CHUNK_SIZE];
+            }
+            int size = 0;
+
+            for (int f = from; f < to; f++) {
+                int currentVertex = frontier[f];
+                for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    if (claim(neighbor)) {
+                        levels[neighbor] = level;
+                        if (size == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, size * 2);
+                        }
+                        buffer[size++] = neighbor;
+                    }
+                }
+            }
+
+            chunkBuffers[chunk] = buffer;
+            chunkSizes[chunk] = size;
+        }
+    }
+
+    /**
+     * Expands the frontier chunks in [fromChunk, toChunk).
+     */
+    private static final class ExpandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final int[] frontier;
+        private final int level;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ExpandTask(Search search, int[] frontier, int level, int fromChunk, int toChunk) {
+            this.search = search;
+            this.frontier = frontier;
+            this.level = level;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                search.expandChunk(frontier, level, fromChunk);
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ExpandTask(search, frontier, level, fromChunk, middle),
+                    new ExpandTask(search, frontier, level, middle, toChunk));
+        }
+    }
+
+    /**
+     * Copies the buffers of the chunks in [fromChunk, toChunk) into their
+     * slices of the next frontier.
+     */
+    private static final class CopyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final int[] next;
+        private final int[] chunkStarts;
+        private final int fromChunk;
+        private final int toChunk;
+
+        CopyTask(Search search, int[] next, int[] chunkStarts, int fromChunk, int toChunk) {
+            this.search = search;
+            this.next = next;
+            this.chunkStarts = chunkStarts;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk <= 8) {
+                for (int chunk = fromChunk; chunk < toChunk; chunk++) {
+                    System.arraycopy(search.chunkBuffers[chunk], 0, next, chunkStarts[chunk],
+                            search.chunkSizes[chunk]);
+                }
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new CopyTask(search, next, chunkStarts, fromChunk, middle),
+                    new CopyTask(search, next, chunkStarts, middle, toChunk));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <ParallelConnectedComponents class labels the connected components of an
+ * undirected Graph with the Afforest algorithm (Sutton et al.)>
+ *
+ * Every vertex starts as its own tree in a shared parent array. Trees are
+ * hooked together without locks by a compare-and-set that points the higher
+ * root at the lower one, and pointer jumping (compression) flattens them
+ * between rounds. Afforest first links only the first few neighbors of every
+ * vertex, samples the labels to find the component that is most likely the
+ * giant one, and then links the remaining edges of every vertex outside it,
+ * which skips most of the edges of the giant component.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class ParallelConnectedComponents {
+
+    // Neighbors per vertex linked before the giant component is sampled
+    private static final int NEIGHBOR_ROUNDS = 2;
+
+    // Labels looked at to guess the giant component
+    private static final int SAMPLES = 1024;
+
+    // Vertices run sequentially by one fork-join leaf
+    private static final int GRAIN = 4096;
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * constructor for the class ParallelConnectedComponents using the common
+     * ForkJoinPool
+     *
+     * @param graph the graph to label
+     */
+    public ParallelConnectedComponents(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class ParallelConnectedComponents
+     *
+     * @param graph the graph to label
+     * @param pool  the pool the rounds run on
+     */
+    public ParallelConnectedComponents(Graph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the connected components of the graph.
+     *
+     * @return the components, numbered in the order of their smallest vertex
+     */
+    public ConnectedComponents run() {
+        return ConnectedComponents.fromLabels(labels());
+    }
+
+    /**
+     * Computes a component label for every vertex: the smallest vertex of its
+     * component.
+     *
+     * @return the label of every vertex
+     */
+    public int[] labels() {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int vertexCount = graph.getVertexCount();
+        AtomicIntegerArray parent = new AtomicIntegerArray(vertexCount);
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> parent.set(vertex, vertex));
+
+        // Link a sparse sample of the edges: the r-th neighbor of every vertex
+        for (int round = 0; round < NEIGHBOR_ROUNDS; round++) {
+            final int r = round;
+            ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> {
+                if (offsets[vertex] + r < offsets[vertex + 1]) {
+                    link(parent, vertex, targets[offsets[vertex] + r]);
+                }
+            });
+            ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> compress(parent, vertex));
+        }
+
+        // Vertices already in the giant component need none of their other edges:
+        // every such edge either stays inside it or is seen from the other end
+        int giant = sampleFrequentLabel(parent, vertexCount);
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> {
+            if (parent.get(vertex) == giant) {
+                return;
+            }
+            for (int i = offsets[vertex] + NEIGHBOR_ROUNDS; i < offsets[vertex + 1]; i++) {
+                link(parent, vertex, targets[i]);
+            }
+        });
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> compress(parent, vertex));
+
+        int[] labels = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            labels[vertex] = parent.get(vertex);
+        }
+        return labels;
+    }
+
+    /**
+     * Joins the trees of u and v. The higher of the two roots is hooked under
+     * the lower one with a compare-and-set; if another thread changed the root
+     * first the roots are looked up again and the hook retried.
+     */
+    private static void link(AtomicIntegerArray parent, int u, int v) {
+        int p1 = parent.get(u);
+        int p2 = parent.get(v);
+        while (p1 != p2) {
+            int high = Math.max(p1, p2);
+            int low = Math.min(p1, p2);
+            int highParent = parent.get(high);
+            if (highParent == low) {
+                return;
+            }
+            if (highParent == high && parent.compareAndSet(high, high, low)) {
+                return;
+            }
+            p1 = parent.get(parent.get(high));
+            p2 = parent.get(low);
+        }
+    }
+
+    /**
+     * Pointer jumping: makes vertex point straight at the root of its tree.
+     */
+    private static void compress(AtomicIntegerArray parent, int vertex) {
+        int p = parent.get(vertex);
+        int grandParent = parent.get(p);
+        while (p != grandParent) {
+            parent.set(vertex, grandParent);
+            p = grandParent;
+            grandParent = parent.get(p);
+        }
+    }
+
+    /**
+     * Finds the most frequent label among a random sample of vertices.
+     */
+    private static int sampleFrequentLabel(AtomicIntegerArray parent, int vertexCount) {
+        if (vertexCount == 0) {
+            return -1;
+        }
+        Random random = new Random(vertexCount);
+        int[] sample = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            sample[i] = parent.get(random.nextInt(vertexCount));
+        }
+        Arrays.sort(sample);
+
+        int best = sample[0];
+        int bestRun = 0;
+        int run = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            run = (i > 0 && sample[i] == sample[i - 1]) ? run + 1 : 1;
+            if (run > bestRun) {
+                bestRun = run;
+                best = sample[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Main method for ParallelConnectedComponents: labels every graph of an
+     * input file with Afforest and checks the labels against the BFS
+     * components of Graph.connectedComponents.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = graphcc.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                ConnectedComponents afforest = new ParallelConnectedComponents(g).run();
+                ConnectedComponents bfs = g.connectedComponents();
+                boolean same = Arrays.equals(afforest.getComponentIds(), bfs.getComponentIds());
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + afforest.getComponentCount() + " components, "
+                        + (same ? "matches BFS" : "DOES NOT match BFS"));
+            }
+
+            System.out.println(mismatches == 0 ? "All graphs match." : mismatches + " graphs differ.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.io.*;
+
+/**
+ * <StreamingConnectivity class answers connectivity queries while the edges of
+ * an undirected graph are still arriving>
+ *
+ * Edges are consumed one at a time into a union-find forest over the |V|
+ * vertices (union by size with path halving), so connected, componentCount and
+ * componentSize can be asked at any point in O(alpha(n)) amortized time
+ * without ever building the adjacency or running BFS/DFS.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+public class StreamingConnectivity {
+
+    private final int[] parent;
+    private final int[] size;
+    private int componentCount;
+    private long edgeCount;
+
+    /**
+     * constructor for the class StreamingConnectivity
+     * ->starts with every vertex in a component of its own.
+     *
+     * @param vertexCount number of vertices, taken from the |V|= header
+     */
+    public StreamingConnectivity(int vertexCount) {
+        parent = new int[vertexCount];
+        size = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            parent[vertex] = vertex;
+            size[vertex] = 1;
+        }
+        componentCount = vertexCount;
+    }
+
+    /**
+     * addEdge method consumes one edge of the stream
+     *
+     * @param source                   -- source vertex
+     * @param destination--destination vertex
+     * @return true if the edge joined two components that were separate
+     * @throws IndexOutOfBoundsException if either vertex is outside 0..|V|-1
+     */
+    public boolean addEdge(int source, int destination) {
+        int sourceRoot = find(source);
+        int destinationRoot = find(destination);
+        // Counted only once both ends are known to be valid vertices
+        edgeCount++;
+        if (sourceRoot == destinationRoot) {
+            return false;
+        }
+
+        // Hang the smaller tree under the larger one
+        if (size[sourceRoot] < size[destinationRoot]) {
+            int swap = sourceRoot;
+            sourceRoot = destinationRoot;
+            destinationRoot = swap;
+        }
+        parent[destinationRoot] = sourceRoot;
+        size[sourceRoot] += size[destinationRoot];
+        componentCount--;
+        return true;
+    }
+
+    /**
+     * connected method tells whether two vertices are joined by the edges seen
+     * so far
+     *
+     * @param u- a vertex of the graph of type integer
+     * @param v- a vertex of the graph of type integer
+     */
+    public boolean connected(int u, int v) {
+        return find(u) == find(v);
+    }
+
+    /**
+     * componentCount method gets the number of connected components so far
+     */
+    public int componentCount() {
+        return componentCount;
+    }
+
+    /**
+     * componentSize method gets the number of vertices in the component of a
+     * vertex so far
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public int componentSize(int vertex) {
+        return size[find(vertex)];
+    }
+
+    /**
+     * getVertexCount method gets the number of vertices in the graph
+     */
+    public int getVertexCount() {
+        return parent.length;
+    }
+
+    /**
+     * getEdgeCount method gets the number of edges consumed so far
+     */
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Finds the root of a vertex, halving the path on the way up.
+     */
+    private int find(int vertex) {
+        while (parent[vertex] != vertex) {
+            parent[vertex] = parent[parent[vertex]];
+            vertex = parent[vertex];
+        }
+        return vertex;
+    }
+
+    /**
+     * Main method for StreamingConnectivity: streams the edges of every graph in
+     * a file in the udGraphs.txt format, without materializing the graphs, and
+     * prints the component count and largest component of each graph as soon
+     * as its last edge has been read.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new FileReader(args[0]));
+            String line;
+            StreamingConnectivity current = null;
+            int count = 0;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith("** G")) {
+                    count++;
+                    current = new StreamingConnectivity(parseVertexCount(line));
+                } else if (current != null && line.startsWith("(") && !line.startsWith("(u, v)")) {
+                    String[] edge = line.replace("(", "").replace(")", "").replace("}", "").split(",");
+                    current.addEdge(Integer.parseInt(edge[0].trim()), Integer.parseInt(edge[1].trim()));
+                } else if (current != null && line.startsWith("----------------")) {
+                    int largest = 0;
+                    for (int vertex = 0; vertex < current.getVertexCount(); vertex++) {
+                        largest = Math.max(largest, current.componentSize(vertex));
+                    }
+                    System.out.println("G" + count + ": " + current.getEdgeCount() + " edges, "
+                            + current.componentCount() + " components, largest has " + largest + " vertices");
+                    current = null;
+                }
+            }
+        } catch (FileNotFoundException ife) {
+            System.out.println("Unable to open file: " + args[0]);
+        } catch (NumberFormatException nfe) {
+            System.out.println("Invalid number format in the input file.");
+        } catch (IOException ioe) {
+            System.out.println("Error reading the file: " + args[0]);
+        } finally {
+            try {
+                if (reader != null) {
+                    reader.close();
+                }
+            } catch (IOException ignored) {
+                // nothing left to do with the file
+            }
+        }
+    }
+
+    /**
+     * Parses the number after "|V|=" in a graph header line.
+     */
+    private static int parseVertexCount(String line) {
+        int startIndex = line.indexOf("|V|=");
+        if (startIndex == -1) {
+            throw new NumberFormatException("No |V|= in header: " + line);
+        }
+        String substring = line.substring(startIndex + 4).trim();
+        int endIndex = substring.indexOf(" ");
+        return Integer.parseInt(endIndex == -1 ? substring : substring.substring(0, endIndex));
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright SAI KIRAN NANDIPATI September 16, 2023. All rights reserved.
+ *
+ * This code is the property of [Your Name or Company]. No part of this code
+ * may be copied, modified, or distributed without the express written permission
+ * of the copyright owner.
+ */
+
+import java.util.Arrays;
+
+/**
+ * <TraversalScratch class holds the working arrays of one thread's traversals
+ * over a Graph so they can be reused from query to query>
+ *
+ * The visited set is an int array of epoch stamps: a vertex counts as visited
+ * when its stamp equals the current epoch, so starting a new traversal only
+ * increments the epoch and never clears the array (except once every ~2^31
+ * traversals, when the epoch wraps around).
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class TraversalScratch {
+
+    final int[] stamps;
+    final int[] queue;
+    final int[] cursors;
+    int epoch;
+
+    // Set while a traversal is using this context; see Graph.scratch
+    boolean busy;
+
+    // Second side of a bidirectional search, allocated on first use
+    int[] backwardStamps;
+    int[] backwardQueue;
+    int[] forwardParents;
+    int[] backwardParents;
+    int[] forwardDistances;
+    int[] backwardDistances;
+
+    /**
+     * constructor for the class TraversalScratch
+     *
+     * @param vertexCount number of vertices of the graph
+     */
+    TraversalScratch(int vertexCount) {
+        stamps = new int[vertexCount];
+        queue = new int[vertexCount];
+        cursors = new int[vertexCount];
+        epoch = 0;
+    }
+
+    /**
+     * Starts a new traversal: forgets every visited vertex.
+     */
+    void reset() {
+        epoch++;
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            if (backwardStamps != null) {
+                Arrays.fill(backwardStamps, 0);
+            }
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Hands the context back once the traversal that took it is done.
+     */
+    void release() {
+        busy = false;
+    }
+
+    /**
+     * Allocates the arrays of the backward side of a bidirectional search the
+     * first time one runs on this thread. The backward side shares the epoch
+     * of the forward side.
+     */
+    void ensureBidirectional() {
+        if (backwardStamps == null) {
+            int vertexCount = stamps.length;
+            backwardStamps = new int[vertexCount];
+            backwardQueue = new int[vertexCount];
+            forwardParents = new int[vertexCount];
+            backwardParents = new int[vertexCount];
+            forwardDistances = new int[vertexCount];
+            backwardDistances = new int[vertexCount];
+        }
+    }
+
+    /**
+     * Marks a vertex visited.
+     *
+     * @return true if the vertex was not yet visited in this traversal
+     */
+    boolean mark(int vertex) {
+        if (stamps[vertex] == epoch) {
+            return false;
+        }
+        stamps[vertex] = epoch;
+        return true;
+    }
+
+    /**
+     * Tells whether a vertex has been visited in this traversal.
+     */
+    boolean isMarked(int vertex) {
+        return stamps[vertex] == epoch;
+    }
+}
@@ -14,6 +14,7 @@
 
 import java.io.*;
 import java.util.*;
+import java.util.function.IntPredicate;
 
 /**
  * <Graph class is used to create objects of type graphs
@@ -21,6 +22,10 @@ import java.util.*;
  * functionalities
  * like gets the BFS and DFS graph traversal orders for a graph
  *
+ * A graph is built with addVertex/addEdge and then frozen into a compressed
+ * sparse row (CSR) adjacency of two int arrays, which the traversals scan
+ * directly without boxing.
+ *
  * @author <SAI KIRAN NANDIPATI>
  *
  */
@@ -30,8 +35,34 @@ import java.util.*;
  */
 class Graph {
 
-    private ArrayList<Integer> vertexList;
-    private ArrayList<ArrayList<Integer>> adjacencyList;
+    private int vertexCount;
+
+    // Edge buffer filled by addEdge while the graph is still being built.
+    private int[] edgeSources;
+    private int[] edgeDestinations;
+    private int edgeCount;
+
+    // Compressed sparse row adjacency: the neighbors of vertex v are
+    // targets[offsets[v]] .. targets[offsets[v + 1] - 1].
+    private int[] offsets;
+    private int[] targets;
+
+    // Dense mode: row v is the bitset denseRows[v * rowWords] ..
+    // denseRows[(v + 1) * rowWords - 1] with bit u set when u is a neighbor.
+    private long[] denseRows;
+    private int rowWords;
+
+    // Written last by freeze, so a thread that sees it set also sees the
+    // arrays built before it
+    private volatile boolean frozen;
+
+    // Set once the graph has been relabeled: originalIds[v] is the id vertex v
+    // had when it was added and vertexIds is the inverse mapping.
+    private int[] originalIds;
+    private int[] vertexIds;
+
+    // Reusable per-thread working arrays for the visitor traversals
+    private final ThreadLocal<TraversalScratch> scratch;
 
     /**
      * constructor for the class Graph
@@ -40,21 +71,25 @@ class Graph {
      */
     public Graph() {
 
-        vertexList = new ArrayList<Integer>();
-        adjacencyList = new ArrayList<ArrayList<Integer>>();
+        vertexCount = 0;
+        edgeSources = new int[16];
+        edgeDestinations = new int[16];
+        edgeCount = 0;
+        scratch = new ThreadLocal<>();
 
     }
 
     /**
-     * addVertex method add the vertex to the vertex list,adjacency list and
-     * indegree map.
+     * addVertex method adds the next vertex to the graph. Vertices are numbered
+     * 0, 1, 2, ... in the order they are added.
      * 
      * @param vertex- a vertex of the graph of type integer
+     * @throws IllegalStateException if the graph has already been frozen
      */
 
     public void addVertex(int vertex) {
-        vertexList.add(vertex);
-        adjacencyList.add(new ArrayList<>());
+        checkNotFrozen();
+        vertexCount++;
 
     }
 
@@ -63,33 +98,325 @@ class Graph {
      * 
      * @param source                   -- source vertex
      * @param destination--destination vertex
+     * @throws IllegalStateException     if the graph has already been frozen
+     * @throws IndexOutOfBoundsException if either vertex has not been added
      */
 
     public void addEdge(int source, int destination) {
-        adjacencyList.get(source).add(destination);
-        adjacencyList.get(destination).add(source);
-        // Since the given graphs are undirected we are adding edhe from source to
-        // destination and vice versa
+        checkNotFrozen();
+        if (source < 0 || source >= vertexCount || destination < 0 || destination >= vertexCount) {
+            throw new IndexOutOfBoundsException("Edge (" + source + ", " + destination
+                    + ") refers to a vertex outside 0.." + (vertexCount - 1));
+        }
+        if (edgeCount == edgeSources.length) {
+            edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+            edgeDestinations = Arrays.copyOf(edgeDestinations, edgeCount * 2);
+        }
+        // Since the given graphs are undirected the edge is stored once here and
+        // expanded in both directions when the graph is frozen
+        edgeSources[edgeCount] = source;
+        edgeDestinations[edgeCount] = destination;
+        edgeCount++;
+    }
+
+    /**
+     * freeze method converts the edges added so far into the compressed sparse
+     * row form used by all traversals. Each vertex keeps its neighbors in the
+     * order the edges were added. Calling freeze more than once has no effect;
+     * after it no more vertices or edges can be added.
+     */
+
+    public void freeze() {
+        freeze(false);
+    }
+
+    /**
+     * freeze method with control over the dense representation. With
+     * allowDense set, a graph dense enough that one bitset row per vertex takes
+     * no more memory than the CSR arrays (see prefersDense), and with no
+     * self-loops or parallel edges, gets the bitset rows instead; its
+     * neighbors are then visited in ascending order rather than in the order
+     * the edges were added. See isDense. The CSR arrays are built in both
+     * cases, so a dense graph holds both forms.
+     *
+     * freeze is synchronized, so traversals started on several threads
+     * before the graph is frozen build it once.
+     *
+     * @param allowDense true to use the bitset rows when the graph qualifies
+     */
+
+    public synchronized void freeze(boolean allowDense) {
+        if (isFrozen()) {
+            return;
+        }
+        if (allowDense && prefersDense(vertexCount, edgeCount) && buildDenseRows()) {
+            buildSparseFromDense();
+            edgeSources = null;
+            edgeDestinations = null;
+            frozen = true;
+            return;
+        }
+
+        int[] rowOffsets = new int[vertexCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            rowOffsets[edgeSources[i] + 1]++;
+            rowOffsets[edgeDestinations[i] + 1]++;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            rowOffsets[vertex + 1] += rowOffsets[vertex];
+        }
+
+        // Scatter both directions of every edge, in insertion order
+        int[] rowTargets = new int[rowOffsets[vertexCount]];
+        int[] cursor = Arrays.copyOf(rowOffsets, vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            int source = edgeSources[i];
+            int destination = edgeDestinations[i];
+            rowTargets[cursor[source]++] = destination;
+            rowTargets[cursor[destination]++] = source;
+        }
+
+        targets = rowTargets;
+        offsets = rowOffsets;
+        // The edge buffer is no longer needed once the adjacency is built
+        edgeSources = null;
+        edgeDestinations = null;
+        frozen = true;
+    }
+
+    /**
+     * prefersDense method tells whether a graph with the given size takes less
+     * memory as V bitset rows of V bits (V^2 / 8 bytes) than as CSR arrays
+     *
+     * @param vertexCount number of vertices
+     * @param edgeCount   number of undirected edges
+     */
+
+    public static boolean prefersDense(int vertexCount, long edgeCount) {
+        long denseBytes = (long) vertexCount * ((vertexCount + 63) >>> 6) * 8;
+        long sparseBytes = 4L * (vertexCount + 1) + 8L * edgeCount;
+        return vertexCount > 0 && denseBytes <= sparseBytes;
+    }
+
+    /**
+     * Builds the bitset rows from the edge buffer.
+     *
+     * @return false, leaving the graph unchanged, if a self-loop or parallel
+     *         edge makes the bitset form lossy
+     */
+
+    private boolean buildDenseRows() {
+        int words = (vertexCount + 63) >>> 6;
+        long[] rows = new long[vertexCount * words];
+        for (int i = 0; i < edgeCount; i++) {
+            int source = edgeSources[i];
+            int destination = edgeDestinations[i];
+            int sourceIndex = source * words + (destination >>> 6);
+            if (source == destination || (rows[sourceIndex] & (1L << destination)) != 0) {
+                return false;
+            }
+            rows[sourceIndex] |= 1L << destination;
+            rows[destination * words + (source >>> 6)] |= 1L << source;
+        }
+        rowWords = words;
+        denseRows = rows;
+        return true;
+    }
+
+    /**
+     * Builds the CSR arrays of a dense graph from its bitset rows, for code
+     * that needs them. Every row lists its neighbors in ascending order.
+     */
+
+    private void buildSparseFromDense() {
+        int[] rowOffsets = new int[vertexCount + 1];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int degree = 0;
+            for (int w = vertex * rowWords; w < (vertex + 1) * rowWords; w++) {
+                degree += Long.bitCount(denseRows[w]);
+            }
+            rowOffsets[vertex + 1] = rowOffsets[vertex] + degree;
+        }
+        int[] rowTargets = new int[rowOffsets[vertexCount]];
+        int position = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int row = vertex * rowWords;
+            for (int w = 0; w < rowWords; w++) {
+                long bits = denseRows[row + w];
+                while (bits != 0) {
+                    rowTargets[position++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+        targets = rowTargets;
+        offsets = rowOffsets;
+    }
+
+    /**
+     * isFrozen method tells whether freeze has been called on the graph
+     */
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * isDense method tells whether the frozen graph uses bitset rows. A dense
+     * graph visits the neighbors of every vertex in ascending order, and its
+     * BFS and DFS expand a vertex with one row &amp; ~visited operation per 64
+     * vertices.
+     */
+
+    public boolean isDense() {
+        return denseRows != null;
     }
 
     /**
      * getNeighbors method will gets all the neighbours of the provided vertex
      * 
      * @param vertex- a vertex of the graph of type integer
+     * @return a new list holding the neighbors of the vertex
      */
 
     public ArrayList<Integer> getNeighbors(int vertex) {
-        return adjacencyList.get(vertex);
+        freeze();
+        ArrayList<Integer> neighbors = new ArrayList<>(offsets[vertex + 1] - offsets[vertex]);
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+            neighbors.add(targets[i]);
+        }
+        return neighbors;
     }
 
     /**
-     * getVertexCount method gets the number of vertices in the graph
+     * getDegree method gets the number of neighbours of the provided vertex
      * 
      * @param vertex- a vertex of the graph of type integer
      */
 
+    public int getDegree(int vertex) {
+        freeze();
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * getVertexCount method gets the number of vertices in the graph
+     */
+
     public int getVertexCount() {
-        return adjacencyList.size();
+        return vertexCount;
+    }
+
+    /**
+     * getEdgeCount method gets the number of undirected edges in the graph
+     */
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * getOffsets method gets the row offsets of the frozen adjacency. The array
+     * is shared with the graph and must not be modified.
+     */
+
+    public int[] getOffsets() {
+        freeze();
+        return offsets;
+    }
+
+    /**
+     * getTargets method gets the neighbor array of the frozen adjacency. The
+     * array is shared with the graph and must not be modified.
+     */
+
+    public int[] getTargets() {
+        freeze();
+        return targets;
+    }
+
+    /**
+     * relabel method renumbers the vertices of a frozen graph in place, for
+     * example to place neighbors close together in memory. Vertex v becomes
+     * vertex newIds[v]; each vertex keeps its neighbors in the same order. The
+     * ids the vertices were added with stay available through getOriginalId.
+     *
+     * @param newIds a permutation of 0..getVertexCount() - 1
+     * @throws IllegalArgumentException if newIds is not a permutation
+     */
+
+    public void relabel(int[] newIds) {
+        freeze();
+        if (newIds.length != vertexCount) {
+            throw new IllegalArgumentException("Expected " + vertexCount + " new ids, got " + newIds.length);
+        }
+        int[] oldIds = new int[vertexCount];
+        Arrays.fill(oldIds, -1);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int newId = newIds[vertex];
+            if (newId < 0 || newId >= vertexCount || oldIds[newId] != -1) {
+                throw new IllegalArgumentException("newIds is not a permutation at vertex " + vertex);
+            }
+            oldIds[newId] = vertex;
+        }
+
+        int[] newOffsets = new int[vertexCount + 1];
+        for (int newId = 0; newId < vertexCount; newId++) {
+            int oldId = oldIds[newId];
+            newOffsets[newId + 1] = newOffsets[newId] + offsets[oldId + 1] - offsets[oldId];
+        }
+        int[] newTargets = new int[targets.length];
+        for (int newId = 0; newId < vertexCount; newId++) {
+            int oldId = oldIds[newId];
+            int position = newOffsets[newId];
+            for (int i = offsets[oldId]; i < offsets[oldId + 1]; i++) {
+                newTargets[position++] = newIds[targets[i]];
+            }
+        }
+
+        // Compose with any earlier relabeling so ids always map back to the input
+        int[] newOriginalIds = new int[vertexCount];
+        int[] newVertexIds = new int[vertexCount];
+        for (int newId = 0; newId < vertexCount; newId++) {
+            int original = originalIds == null ? oldIds[newId] : originalIds[oldIds[newId]];
+            newOriginalIds[newId] = original;
+            newVertexIds[original] = newId;
+        }
+
+        // A relabeled graph is kept in CSR form only
+        denseRows = null;
+        targets = newTargets;
+        offsets = newOffsets;
+        originalIds = newOriginalIds;
+        vertexIds = newVertexIds;
+    }
+
+    /**
+     * getOriginalId method gets the id a vertex had when it was added, before
+     * any relabeling
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+
+    public int getOriginalId(int vertex) {
+        return originalIds == null ? vertex : originalIds[vertex];
+    }
+
+    /**
+     * getVertexId method gets the current id of the vertex that was added with
+     * the given id
+     *
+     * @param originalVertex- the id the vertex was added with
+     */
+
+    public int getVertexId(int originalVertex) {
+        return vertexIds == null ? originalVertex : vertexIds[originalVertex];
+    }
+
+    private void checkNotFrozen() {
+        if (isFrozen()) {
+            throw new IllegalStateException("Graph is frozen; no more vertices or edges can be added");
+        }
     }
 
     /**
@@ -101,23 +428,36 @@ class Graph {
      */
 
     public ArrayList<Integer> breadthFirstSearch(int startVertex) {
+        freeze();
         ArrayList<Integer> visitedVertices = new ArrayList<>();
-        Queue<Integer> BFSqueue = new LinkedList<>();
-        boolean[] visited = new boolean[adjacencyList.size()]; // keeps track of visited vertices
+        if (denseRows != null) {
+            int[] order = new int[vertexCount];
+            int count = denseBreadthFirst(startVertex, allVertexBits(), order, 0, null);
+            for (int i = 0; i < count; i++) {
+                visitedVertices.add(order[i]);
+            }
+            return visitedVertices;
+        }
+
+        int[] BFSqueue = new int[vertexCount]; // every vertex is enqueued at most once
+        int head = 0;
+        int tail = 0;
+        boolean[] visited = new boolean[vertexCount]; // keeps track of visited vertices
 
         // Mark the start vertex as visited and enqueue it
         visited[startVertex] = true;
-        BFSqueue.add(startVertex);
+        BFSqueue[tail++] = startVertex;
 
-        while (!BFSqueue.isEmpty()) {
-            int currentVertex = BFSqueue.poll();
+        while (head < tail) {
+            int currentVertex = BFSqueue[head++];
             visitedVertices.add(currentVertex);
 
             // Visit all unvisited neighbors of the current vertex
-            for (int neighbor : adjacencyList.get(currentVertex)) {
+            for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                int neighbor = targets[i];
                 if (!visited[neighbor]) {
                     visited[neighbor] = true;
-                    BFSqueue.add(neighbor);
+                    BFSqueue[tail++] = neighbor;
                 }
             }
         }
@@ -125,6 +465,177 @@ class Graph {
         return visitedVertices;
     }
 
+    /**
+     * Breadth-first traversal that hands every visited vertex to a callback
+     * instead of collecting a list. The callback returns false to stop the
+     * traversal early. The queue and visited set come from a per-thread
+     * scratch context that is reused across calls, so after the first call on
+     * a thread no memory is allocated. The visitor may itself start another
+     * traversal of this graph; that nested traversal cannot share the busy
+     * context and allocates its own arrays instead.
+     *
+     * @param startVertex The starting vertex for BFS.
+     * @param visitor     called with each vertex in BFS order; returns false to
+     *                    stop
+     * @return the number of vertices passed to the visitor
+     */
+
+    public int breadthFirstVisit(int startVertex, IntPredicate visitor) {
+        TraversalScratch context = scratch();
+        try {
+            return breadthFirstVisit(startVertex, visitor, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    private int breadthFirstVisit(int startVertex, IntPredicate visitor, TraversalScratch context) {
+        context.reset();
+        int[] BFSqueue = context.queue;
+        int head = 0;
+        int tail = 0;
+
+        context.mark(startVertex);
+        BFSqueue[tail++] = startVertex;
+
+        while (head < tail) {
+            int currentVertex = BFSqueue[head++];
+            if (!visitor.test(currentVertex)) {
+                return head;
+            }
+            for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                int neighbor = targets[i];
+                if (context.mark(neighbor)) {
+                    BFSqueue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return head;
+    }
+
+    /**
+     * Depth-first traversal that hands every visited vertex to a callback, in
+     * the same order as deapthFirstSearch, using the reusable per-thread
+     * scratch context like breadthFirstVisit. As there, a traversal started
+     * from inside the visitor allocates its own arrays.
+     *
+     * @param startVertex The index of the vertex to start the DFS traversal from.
+     * @param visitor     called with each vertex in DFS order; returns false to
+     *                    stop
+     * @return the number of vertices passed to the visitor
+     */
+
+    public int depthFirstVisit(int startVertex, IntPredicate visitor) {
+        TraversalScratch context = scratch();
+        try {
+            return depthFirstVisit(startVertex, visitor, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    private int depthFirstVisit(int startVertex, IntPredicate visitor, TraversalScratch context) {
+        context.reset();
+        int[] stackVertices = context.queue;
+        int[] stackCursors = context.cursors;
+        int top = 0;
+        int visitedCount = 1;
+
+        context.mark(startVertex);
+        if (!visitor.test(startVertex)) {
+            return visitedCount;
+        }
+        stackVertices[top] = startVertex;
+        stackCursors[top] = offsets[startVertex];
+        top++;
+
+        while (top > 0) {
+            int currentVertex = stackVertices[top - 1];
+            int cursor = stackCursors[top - 1];
+            if (cursor == offsets[currentVertex + 1]) {
+                top--;
+                continue;
+            }
+            stackCursors[top - 1] = cursor + 1;
+
+            int neighbor = targets[cursor];
+            if (context.mark(neighbor)) {
+                visitedCount++;
+                if (!visitor.test(neighbor)) {
+                    return visitedCount;
+                }
+                stackVertices[top] = neighbor;
+                stackCursors[top] = offsets[neighbor];
+                top++;
+            }
+        }
+
+        return visitedCount;
+    }
+
+    /**
+     * Gets the calling thread's scratch context for this graph, creating it on
+     * first use, and marks it busy; the caller hands it back with release in
+     * a finally block. While the thread's context is busy, for example when a
+     * visitor starts another traversal, a fresh context is returned instead so
+     * the outer traversal's arrays are left alone. Freezes the graph if it is
+     * still being built.
+     */
+
+    TraversalScratch scratch() {
+        freeze();
+        TraversalScratch context = scratch.get();
+        if (context == null || context.stamps.length != vertexCount) {
+            context = new TraversalScratch(vertexCount);
+            scratch.set(context);
+        } else if (context.busy) {
+            context = new TraversalScratch(vertexCount);
+        }
+        context.busy = true;
+        return context;
+    }
+
+    /**
+     * Computes the BFS level (hop distance) of every vertex from a given vertex
+     * using a plain queue-based search.
+     *
+     * @param startVertex The starting vertex for BFS.
+     * @return the level of every vertex, or -1 for vertices that cannot be
+     *         reached from startVertex
+     */
+
+    public int[] breadthFirstLevels(int startVertex) {
+        freeze();
+        int[] levels = new int[vertexCount];
+        Arrays.fill(levels, -1);
+        if (denseRows != null) {
+            levels[startVertex] = 0;
+            denseBreadthFirst(startVertex, allVertexBits(), new int[vertexCount], 0, levels);
+            return levels;
+        }
+        int[] BFSqueue = new int[vertexCount];
+        int head = 0;
+        int tail = 0;
+
+        levels[startVertex] = 0;
+        BFSqueue[tail++] = startVertex;
+
+        while (head < tail) {
+            int currentVertex = BFSqueue[head++];
+            int nextLevel = levels[currentVertex] + 1;
+            for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                int neighbor = targets[i];
+                if (levels[neighbor] == -1) {
+                    levels[neighbor] = nextLevel;
+                    BFSqueue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return levels;
+    }
+
     /**
      * Performs a depth-first search (DFS) traversal of the graph starting from the
      * specified vertex.
@@ -136,33 +647,311 @@ class Graph {
      */
 
     public ArrayList<Integer> deapthFirstSearch(int startVertex) {
+        freeze();
         ArrayList<Integer> visitedVertices = new ArrayList<>();
-        Stack<Integer> dfsStack = new Stack<>();
-        boolean[] visited = new boolean[adjacencyList.size()];
+        if (denseRows != null) {
+            int[] order = new int[vertexCount];
+            int count = denseDepthFirst(startVertex, allVertexBits(), order, 0, new int[vertexCount],
+                    new int[vertexCount]);
+            for (int i = 0; i < count; i++) {
+                visitedVertices.add(order[i]);
+            }
+            return visitedVertices;
+        }
+        // Explicit frame stack: a vertex plus the cursor of the next edge to try.
+        // Only vertices on the current DFS path are on it, so it holds at most V
+        // frames however many edges there are.
+        int[] stackVertices = new int[vertexCount];
+        int[] stackCursors = new int[vertexCount];
+        int top = 0;
+        boolean[] visited = new boolean[vertexCount];
 
-        // Mark the start vertex as visited and enqueue it
+        // Mark the start vertex as visited and push it
+        visited[startVertex] = true;
+        visitedVertices.add(startVertex);
+        stackVertices[top] = startVertex;
+        stackCursors[top] = offsets[startVertex];
+        top++;
+
+        while (top > 0) {
+            int currentVertex = stackVertices[top - 1];
+            int cursor = stackCursors[top - 1];
+
+            if (cursor == offsets[currentVertex + 1]) {
+                // All neighbors tried: backtrack
+                top--;
+                continue;
+            }
+            stackCursors[top - 1] = cursor + 1;
 
-        dfsStack.push(startVertex);
+            // Descend into the next unvisited neighbor of the current vertex
+            int neighbor = targets[cursor];
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                visitedVertices.add(neighbor);
+                stackVertices[top] = neighbor;
+                stackCursors[top] = offsets[neighbor];
+                top++;
+            }
+        }
 
-        while (!dfsStack.isEmpty()) {
-            int currentVertex = dfsStack.pop();
-            if (!visited[currentVertex]) {
-                visited[currentVertex] = true;
+        return visitedVertices;
+    }
 
-                visitedVertices.add(currentVertex);
+    /**
+     * Labels every vertex with its connected component in a single
+     * breadth-first pass over the whole graph. One label array serves as the
+     * visited set for all components and the output vertex array doubles as the
+     * BFS queue, so the cost is O(V + E) however many components there are.
+     *
+     * @return the components, each listed in BFS order from its smallest vertex
+     */
 
-                // Visit all unvisited neighbors of the current vertex
+    public ConnectedComponents connectedComponents() {
+        freeze();
+        if (denseRows != null) {
+            return denseComponents(false);
+        }
+        int[] componentId = new int[vertexCount];
+        Arrays.fill(componentId, -1);
+        int[] order = new int[vertexCount];
+        int[] componentOffsets = new int[vertexCount + 1];
+        int componentCount = 0;
+        int tail = 0;
 
-                for (int i = adjacencyList.get(currentVertex).size() - 1; i >= 0; i--) {
-                    int neighbor = adjacencyList.get(currentVertex).get(i);
+        for (int root = 0; root < vertexCount; root++) {
+            if (componentId[root] != -1) {
+                continue;
+            }
+            // root starts a new component; its BFS queue is the rest of order[]
+            componentOffsets[componentCount] = tail;
+            int head = tail;
+            componentId[root] = componentCount;
+            order[tail++] = root;
 
-                    dfsStack.push(neighbor);
+            while (head < tail) {
+                int currentVertex = order[head++];
+                for (int i = offsets[currentVertex]; i < offsets[currentVertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    if (componentId[neighbor] == -1) {
+                        componentId[neighbor] = componentCount;
+                        order[tail++] = neighbor;
+                    }
                 }
             }
+            componentCount++;
+        }
+        componentOffsets[componentCount] = tail;
 
+        return new ConnectedComponents(componentId, Arrays.copyOf(componentOffsets, componentCount + 1),
+                componentCount, order);
+    }
+
+    /**
+     * Labels every vertex with its connected component in a single depth-first
+     * pass over the whole graph, sharing one label array and one stack across
+     * all components.
+     *
+     * @return the components, each listed in DFS order from its smallest vertex
+     */
+
+    public ConnectedComponents depthFirstComponents() {
+        freeze();
+        if (denseRows != null) {
+            return denseComponents(true);
         }
+        int[] componentId = new int[vertexCount];
+        Arrays.fill(componentId, -1);
+        int[] order = new int[vertexCount];
+        int[] componentOffsets = new int[vertexCount + 1];
+        int[] stackVertices = new int[vertexCount];
+        int[] stackCursors = new int[vertexCount];
+        int componentCount = 0;
+        int visitedCount = 0;
 
-        return visitedVertices;
+        for (int root = 0; root < vertexCount; root++) {
+            if (componentId[root] != -1) {
+                continue;
+            }
+            componentOffsets[componentCount] = visitedCount;
+            componentId[root] = componentCount;
+            order[visitedCount++] = root;
+            stackVertices[0] = root;
+            stackCursors[0] = offsets[root];
+            int top = 1;
+
+            while (top > 0) {
+                int currentVertex = stackVertices[top - 1];
+                int cursor = stackCursors[top - 1];
+                if (cursor == offsets[currentVertex + 1]) {
+                    top--;
+                    continue;
+                }
+                stackCursors[top - 1] = cursor + 1;
+
+                int neighbor = targets[cursor];
+                if (componentId[neighbor] == -1) {
+                    componentId[neighbor] = componentCount;
+                    order[visitedCount++] = neighbor;
+                    stackVertices[top] = neighbor;
+                    stackCursors[top] = offsets[neighbor];
+                    top++;
+                }
+            }
+            componentCount++;
+        }
+        componentOffsets[componentCount] = visitedCount;
+
+        return new ConnectedComponents(componentId, Arrays.copyOf(componentOffsets, componentCount + 1),
+                componentCount, order);
+    }
+
+    /**
+     * Labels the components of a dense graph, sharing one unvisited bitset
+     * across all components.
+     */
+
+    private ConnectedComponents denseComponents(boolean depthFirst) {
+        long[] unvisited = allVertexBits();
+        int[] componentId = new int[vertexCount];
+        int[] order = new int[vertexCount];
+        int[] componentOffsets = new int[vertexCount + 1];
+        int[] stackVertices = depthFirst ? new int[vertexCount] : null;
+        int[] stackCursors = depthFirst ? new int[vertexCount] : null;
+        int componentCount = 0;
+        int visitedCount = 0;
+
+        for (int root = 0; root < vertexCount; root++) {
+            if ((unvisited[root >>> 6] & (1L << root)) == 0) {
+                continue;
+            }
+            componentOffsets[componentCount] = visitedCount;
+            int end = depthFirst
+                    ? denseDepthFirst(root, unvisited, order, visitedCount, stackVertices, stackCursors)
+                    : denseBreadthFirst(root, unvisited, order, visitedCount, null);
+            for (int i = visitedCount; i < end; i++) {
+                componentId[order[i]] = componentCount;
+            }
+            visitedCount = end;
+            componentCount++;
+        }
+        componentOffsets[componentCount] = visitedCount;
+
+        return new ConnectedComponents(componentId, Arrays.copyOf(componentOffsets, componentCount + 1),
+                componentCount, order);
+    }
+
+    /**
+     * A bitset with one set bit per vertex.
+     */
+
+    private long[] allVertexBits() {
+        long[] bits = new long[rowWords];
+        Arrays.fill(bits, -1L);
+        if ((vertexCount & 63) != 0) {
+            bits[rowWords - 1] = (1L << vertexCount) - 1;
+        }
+        return bits;
+    }
+
+    /**
+     * BFS over the bitset rows. Each dequeued vertex finds all its unvisited
+     * neighbors with one row &amp; unvisited per word.
+     *
+     * @param startVertex an unvisited vertex
+     * @param unvisited   bitset of unvisited vertices, updated in place
+     * @param queue       receives the visited vertices from position tail on
+     * @param tail        first free position of queue
+     * @param levels      receives the level of each vertex if not null;
+     *                    levels[startVertex] must already be set
+     * @return the new first free position of queue
+     */
+
+    private int denseBreadthFirst(int startVertex, long[] unvisited, int[] queue, int tail, int[] levels) {
+        int head = tail;
+        unvisited[startVertex >>> 6] &= ~(1L << startVertex);
+        queue[tail++] = startVertex;
+
+        while (head < tail) {
+            int currentVertex = queue[head++];
+            int row = currentVertex * rowWords;
+            for (int w = 0; w < rowWords; w++) {
+                long fresh = denseRows[row + w] & unvisited[w];
+                if (fresh == 0) {
+                    continue;
+                }
+                unvisited[w] &= ~fresh;
+                while (fresh != 0) {
+                    int neighbor = (w << 6) + Long.numberOfTrailingZeros(fresh);
+                    fresh &= fresh - 1;
+                    if (levels != null) {
+                        levels[neighbor] = levels[currentVertex] + 1;
+                    }
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return tail;
+    }
+
+    /**
+     * DFS over the bitset rows with a frame stack whose cursor is the first
+     * neighbor id still to be tried.
+     *
+     * @param startVertex an unvisited vertex
+     * @param unvisited   bitset of unvisited vertices, updated in place
+     * @param order       receives the visited vertices from position count on
+     * @param count       first free position of order
+     * @return the new first free position of order
+     */
+
+    private int denseDepthFirst(int startVertex, long[] unvisited, int[] order, int count, int[] stackVertices,
+            int[] stackCursors) {
+        unvisited[startVertex >>> 6] &= ~(1L << startVertex);
+        order[count++] = startVertex;
+        stackVertices[0] = startVertex;
+        stackCursors[0] = 0;
+        int top = 1;
+
+        while (top > 0) {
+            int currentVertex = stackVertices[top - 1];
+            int neighbor = nextUnvisitedNeighbor(currentVertex, stackCursors[top - 1], unvisited);
+            if (neighbor == -1) {
+                top--;
+                continue;
+            }
+            stackCursors[top - 1] = neighbor + 1;
+
+            unvisited[neighbor >>> 6] &= ~(1L << neighbor);
+            order[count++] = neighbor;
+            stackVertices[top] = neighbor;
+            stackCursors[top] = 0;
+            top++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the smallest unvisited neighbor of a vertex with id at least from,
+     * or -1 if there is none.
+     */
+
+    private int nextUnvisitedNeighbor(int vertex, int from, long[] unvisited) {
+        if (from >= vertexCount) {
+            return -1;
+        }
+        int row = vertex * rowWords;
+        int w = from >>> 6;
+        long bits = denseRows[row + w] & unvisited[w] & (-1L << from);
+        while (bits == 0) {
+            if (++w == rowWords) {
+                return -1;
+            }
+            bits = denseRows[row + w] & unvisited[w];
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(bits);
     }
 }
 
@@ -239,6 +1028,8 @@ public class graphcc {
                         int v = Integer.parseInt(edge[1].trim());
                         currentGraph.addEdge(u, v);
                     }
+                    // All edges of this graph are in; build its compact adjacency.
+                    currentGraph.freeze();
                 }
             }
         } catch (FileNotFoundException ife) {
@@ -259,6 +1050,25 @@ public class graphcc {
         return graphs;
     }
 
+    /**
+     * Prints every component on its own line, vertices separated by spaces.
+     *
+     * @param components the labeled components of a graph
+     */
+    private static void printComponents(ConnectedComponents components) {
+        int[] offsets = components.getOffsets();
+        int[] vertices = components.getVertices();
+        StringBuilder line = new StringBuilder();
+
+        for (int component = 0; component < components.getComponentCount(); component++) {
+            line.setLength(0);
+            for (int i = offsets[component]; i < offsets[component + 1]; i++) {
+                line.append(vertices[i]).append(' ');
+            }
+            System.out.println(line);
+        }
+    }
+
     /**
      * Main method for graphcc.
      * date & time: sep 17th 6:00 pm
@@ -278,48 +1088,11 @@ public class graphcc {
                 count++;
                 System.out.println("** " + "G" + count + " ’s connected components:");
 
-                // Initialize a boolean array to keep track of visited vertices
-                boolean[] bfsVisited = new boolean[g.getVertexCount()];
-                boolean[] dfsVisited = new boolean[g.getVertexCount()];
                 System.out.println("Breadth First Search:");
-
-                for (int vertex = 0; vertex < g.getVertexCount(); vertex++) {
-
-                    if (!bfsVisited[vertex]) {
-                        // Perform BFS starting from the unvisited vertex
-                        ArrayList<Integer> bfsOrder = g.breadthFirstSearch(vertex);
-
-                        for (Integer item : bfsOrder) {
-                            System.out.print(item + " ");
-                        }
-                        System.out.println();
-
-                        // Mark all visited vertices in this connected component for BFS
-                        for (Integer visitedVertex : bfsOrder) {
-                            bfsVisited[visitedVertex] = true;
-                        }
-                    }
-                }
+                printComponents(g.connectedComponents());
 
                 System.out.println("Depth First Search:");
-
-                for (int vertex = 0; vertex < g.getVertexCount(); vertex++) {
-
-                    if (!dfsVisited[vertex]) {
-                        // Perform DFS starting from the unvisited vertex
-                        ArrayList<Integer> dfsOrder = g.deapthFirstSearch(vertex);
-
-                        for (Integer item : dfsOrder) {
-                            System.out.print(item + " ");
-                        }
-                        System.out.println();
-
-                        // Mark all visited vertices in this connected component for DFS
-                        for (Integer visitedVertex : dfsOrder) {
-                            dfsVisited[visitedVertex] = true;
-                        }
-                    }
-                }
+                printComponents(g.depthFirstComponents());
                 System.out.println();
             }
 
@@ -0,0 +1,444 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <CriticalPath class computes the longest path of a weighted DAG and, for
+ * every vertex, its earliest and latest start times and its slack>
+ *
+ * Every vertex may take a duration and every edge may add a delay. A forward
+ * sweep over the topological order gives the earliest start of each vertex, the
+ * largest earliest finish of its predecessors plus the edge delay; the largest
+ * earliest finish overall is the makespan. A backward sweep gives the latest
+ * finish, the smallest latest start of its successors minus the edge delay, or
+ * the makespan for a sink. The slack is latest start minus earliest start, and
+ * the vertices with zero slack are critical: delaying any of them delays the
+ * whole DAG.
+ *
+ * The parallel variant sweeps the wavefronts of ParallelTopologicalSort level
+ * by level. Each vertex of a level pulls from its predecessors (forward) or
+ * successors (backward), which all lie in other levels, so the vertices of a
+ * level never write to the same place.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class CriticalPath {
+
+    // Largest piece of a level handled by one task
+    private static final int GRAIN = 1024;
+
+    private final long[] vertexDurations;
+    private final long[] edgeDelays;
+    private final long[] earliestStart;
+    private final long[] latestFinish;
+    private final int[] criticalPredecessor;
+    private long makespan;
+    private int lastVertex = -1;
+
+    /**
+     * constructor for the class CriticalPath, sweeping sequentially
+     *
+     * @param graph           the DAG to analyse
+     * @param vertexDurations duration of every vertex, or null for all zero
+     * @param edgeDelays      delay of every edge in CSR order, so edgeDelays[i]
+     *                        belongs to the edge ending at graph.getTargets()[i],
+     *                        or null for all zero
+     * @throws IllegalArgumentException if the graph has a cycle, an array has
+     *                                  the wrong length or a duration is
+     *                                  negative
+     */
+    public CriticalPath(Graph graph, long[] vertexDurations, long[] edgeDelays) {
+        this(graph, vertexDurations, edgeDelays, null);
+    }
+
+    /**
+     * constructor for the class CriticalPath, sweeping level by level on a
+     * ForkJoinPool
+     *
+     * @param graph           the DAG to analyse
+     * @param vertexDurations duration of every vertex, or null for all zero
+     * @param edgeDelays      delay of every edge in CSR order, or null for all
+     *                        zero
+     * @param pool            the pool the levels are swept on, or null to sweep
+     *                        sequentially
+     * @throws IllegalArgumentException as for the sequential constructor
+     */
+    public CriticalPath(Graph graph, long[] vertexDurations, long[] edgeDelays, ForkJoinPool pool) {
+        int vertexCount = graph.getVertexCount();
+        this.vertexDurations = vertexDurations != null ? vertexDurations : new long[vertexCount];
+        this.edgeDelays = edgeDelays != null ? edgeDelays : new long[graph.getEdgeCount()];
+        if (this.vertexDurations.length != vertexCount || this.edgeDelays.length != graph.getEdgeCount()) {
+            throw new IllegalArgumentException("Expected " + vertexCount + " vertex durations and "
+                    + graph.getEdgeCount() + " edge delays");
+        }
+        for (long duration : this.vertexDurations) {
+            checkDuration(duration);
+        }
+        for (long delay : this.edgeDelays) {
+            checkDuration(delay);
+        }
+
+        earliestStart = new long[vertexCount];
+        latestFinish = new long[vertexCount];
+        criticalPredecessor = new int[vertexCount];
+        Arrays.fill(criticalPredecessor, -1);
+
+        if (pool == null) {
+            TopologicalSortResult result = graph.sort(false);
+            if (!result.isAcyclic()) {
+                throw new IllegalArgumentException("Graph has a cycle through vertices "
+                        + Arrays.toString(result.getCycle()));
+            }
+            sweepSequential(graph, result.getOrder());
+        } else {
+            ParallelTopologicalSort.Wavefronts wavefronts = new ParallelTopologicalSort(graph, pool).sort();
+            if (!wavefronts.isAcyclic()) {
+                throw new IllegalArgumentException("Graph has a cycle through vertices "
+                        + Arrays.toString(graph.sort(false).getCycle()));
+            }
+            sweepParallel(graph, wavefronts, pool);
+        }
+    }
+
+    private static void checkDuration(long duration) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Durations must not be negative, was " + duration);
+        }
+    }
+
+    /**
+     * Forward sweep pushing earliest finishes to successors, then backward
+     * sweep pulling latest starts from successors.
+     */
+    private void sweepSequential(Graph graph, int[] order) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
+        for (int vertex : order) {
+            long finish = earliestStart[vertex] + vertexDurations[vertex];
+            if (lastVertex == -1 || finish > makespan) {
+                makespan = finish;
+                lastVertex = vertex;
+            }
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                long arrival = finish + edgeDelays[i];
+                if (arrival > earliestStart[targets[i]] || criticalPredecessor[targets[i]] == -1) {
+                    earliestStart[targets[i]] = arrival;
+                    criticalPredecessor[targets[i]] = vertex;
+                }
+            }
+        }
+
+        for (int i = order.length - 1; i >= 0; i--) {
+            latestFinish[order[i]] = latestFinishFromSuccessors(order[i], offsets, targets);
+        }
+    }
+
+    /**
+     * Both sweeps level by level; every vertex pulls from its neighbours.
+     */
+    private void sweepParallel(Graph graph, ParallelTopologicalSort.Wavefronts wavefronts, ForkJoinPool pool) {
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] order = wavefronts.getOrder();
+
+        // Predecessor lists that remember the CSR index of each edge for its delay
+        int[] reverseOffsets = new int[vertexCount + 1];
+        for (int i = 0; i < targets.length; i++) {
+            reverseOffsets[targets[i] + 1]++;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            reverseOffsets[vertex + 1] += reverseOffsets[vertex];
+        }
+        int[] reverseEdges = new int[targets.length];
+        int[] cursor = Arrays.copyOf(reverseOffsets, vertexCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                reverseEdges[cursor[targets[i]]++] = i;
+            }
+        }
+        int[] sources = new int[targets.length];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                sources[i] = vertex;
+            }
+        }
+
+        for (int level = 1; level < wavefronts.getLevelCount(); level++) {
+            ParallelLoop.forEach(pool, wavefronts.getLevelStart(level), wavefronts.getLevelStart(level + 1), GRAIN,
+                    index -> {
+                        int vertex = order[index];
+                        long start = -1;
+                        int predecessor = -1;
+                        for (int r = reverseOffsets[vertex]; r < reverseOffsets[vertex + 1]; r++) {
+                            int edge = reverseEdges[r];
+                            int source = sources[edge];
+                            long arrival = earliestStart[source] + vertexDurations[source] + edgeDelays[edge];
+                            if (arrival > start || (arrival == start && source < predecessor)) {
+                                start = arrival;
+                                predecessor = source;
+                            }
+                        }
+                        earliestStart[vertex] = start;
+                        criticalPredecessor[vertex] = predecessor;
+                    });
+        }
+
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            long finish = earliestStart[vertex] + vertexDurations[vertex];
+            if (lastVertex == -1 || finish > makespan) {
+                makespan = finish;
+                lastVertex = vertex;
+            }
+        }
+
+        for (int level = wavefronts.getLevelCount() - 1; level >= 0; level--) {
+            ParallelLoop.forEach(pool, wavefronts.getLevelStart(level), wavefronts.getLevelStart(level + 1), GRAIN,
+                    index -> latestFinish[order[index]] = latestFinishFromSuccessors(order[index], offsets, targets));
+        }
+    }
+
+    private long latestFinishFromSuccessors(int vertex, int[] offsets, int[] targets) {
+        long finish = makespan;
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+            int successor = targets[i];
+            finish = Math.min(finish, latestFinish[successor] - vertexDurations[successor] - edgeDelays[i]);
+        }
+        return finish;
+    }
+
+    /**
+     * getMakespan method gets the length of the longest path, the earliest time
+     * at which every vertex can be finished
+     */
+    public long getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * getEarliestStart method gets the earliest time a vertex can start
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public long getEarliestStart(int vertex) {
+        return earliestStart[vertex];
+    }
+
+    /**
+     * getEarliestFinish method gets the earliest time a vertex can finish
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public long getEarliestFinish(int vertex) {
+        return earliestStart[vertex] + vertexDurations[vertex];
+    }
+
+    /**
+     * getLatestStart method gets the latest time a vertex can start without
+     * delaying the makespan
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public long getLatestStart(int vertex) {
+        return latestFinish[vertex] - vertexDurations[vertex];
+    }
+
+    /**
+     * getLatestFinish method gets the latest time a vertex can finish without
+     * delaying the makespan
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public long getLatestFinish(int vertex) {
+        return latestFinish[vertex];
+    }
+
+    /**
+     * getSlack method gets how long a vertex can be delayed without delaying
+     * the makespan
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public long getSlack(int vertex) {
+        return getLatestStart(vertex) - earliestStart[vertex];
+    }
+
+    /**
+     * isCritical method tells whether a vertex has no slack
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public boolean isCritical(int vertex) {
+        return getSlack(vertex) == 0;
+    }
+
+    /**
+     * getCriticalPath method gets one longest path, from a source to the
+     * vertex that finishes last
+     */
+    public int[] getCriticalPath() {
+        int length = 0;
+        for (int vertex = lastVertex; vertex != -1; vertex = criticalPredecessor[vertex]) {
+            length++;
+        }
+        int[] path = new int[length];
+        int vertex = lastVertex;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = vertex;
+            vertex = criticalPredecessor[vertex];
+        }
+        return path;
+    }
+
+    /**
+     * Checks a result on small graphs: the critical path must be a path of the
+     * graph whose length is the makespan and whose vertices have no slack, no
+     * slack may be negative, and the earliest starts must match the longest
+     * path into every vertex found by trying all paths from each source.
+     */
+    static boolean isValid(Graph graph, CriticalPath result, long[] vertexDurations, long[] edgeDelays) {
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (result.getSlack(vertex) < 0) {
+                return false;
+            }
+        }
+
+        int[] path = result.getCriticalPath();
+        long length = 0;
+        for (int p = 0; p < path.length; p++) {
+            if (!result.isCritical(path[p])) {
+                return false;
+            }
+            length += vertexDurations[path[p]];
+            if (p + 1 < path.length) {
+                int edge = -1;
+                for (int i = offsets[path[p]]; i < offsets[path[p] + 1]; i++) {
+                    if (targets[i] == path[p + 1] && (edge == -1 || edgeDelays[i] > edgeDelays[edge])) {
+                        edge = i;
+                    }
+                }
+                if (edge == -1) {
+                    return false;
+                }
+                length += edgeDelays[edge];
+            }
+        }
+        if (vertexCount > 0 && (length != result.getMakespan() || result.getEarliestStart(path[0]) != 0)) {
+            return false;
+        }
+
+        // Relax until nothing changes, independent of any topological order
+        long[] longest = new long[vertexCount];
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    long arrival = longest[vertex] + vertexDurations[vertex] + edgeDelays[i];
+                    if (arrival > longest[targets[i]]) {
+                        longest[targets[i]] = arrival;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (longest[vertex] != result.getEarliestStart(vertex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Main method for CriticalPath: analyses every acyclic graph of an input
+     * file with random vertex durations and edge delays, checks the sequential
+     * and the parallel sweep, then times both on a wide random DAG.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                if (!g.sort(false).isAcyclic()) {
+                    System.out.println("G" + count + ": cyclic, no critical path");
+                    continue;
+                }
+                long[] vertexDurations = randomDurations(g.getVertexCount(), 10, random);
+                long[] edgeDelays = randomDurations(g.getEdgeCount(), 3, random);
+                CriticalPath sequential = new CriticalPath(g, vertexDurations, edgeDelays);
+                CriticalPath parallel = new CriticalPath(g, vertexDurations, edgeDelays, ForkJoinPool.commonPool());
+
+                boolean same = isValid(g, sequential, vertexDurations, edgeDelays)
+                        && isValid(g, parallel, vertexDurations, edgeDelays)
+                        && Arrays.equals(sequential.earliestStart, parallel.earliestStart)
+                        && Arrays.equals(sequential.latestFinish, parallel.latestFinish);
+                if (!same) {
+                    mismatches++;
+                }
+                int critical = 0;
+                for (int vertex = 0; vertex < g.getVertexCount(); vertex++) {
+                    if (sequential.isCritical(vertex)) {
+                        critical++;
+                    }
+                }
+                System.out.println("G" + count + ": makespan " + sequential.getMakespan() + ", critical path of "
+                        + sequential.getCriticalPath().length + " vertices, " + critical + " critical vertices, "
+                        + (same ? "valid" : "INVALID"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs valid." : mismatches + " graphs invalid.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        Graph wide = ParallelTopologicalSort.wideDag(20, 100000, 4, 42);
+        long[] vertexDurations = randomDurations(wide.getVertexCount(), 100, random);
+        long[] edgeDelays = randomDurations(wide.getEdgeCount(), 10, random);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            CriticalPath sequential = new CriticalPath(wide, vertexDurations, edgeDelays);
+            long sequentialTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            CriticalPath parallel = new CriticalPath(wide, vertexDurations, edgeDelays, ForkJoinPool.commonPool());
+            long parallelTime = System.nanoTime() - start;
+
+            boolean same = Arrays.equals(sequential.earliestStart, parallel.earliestStart)
+                    && Arrays.equals(sequential.latestFinish, parallel.latestFinish);
+            System.out.println("wide DAG (" + wide.getVertexCount() + " vertices, " + wide.getEdgeCount()
+                    + " edges): makespan " + sequential.getMakespan() + ", sequential " + sequentialTime / 1000000
+                    + " ms, level by level " + parallelTime / 1000000 + " ms on "
+                    + ForkJoinPool.getCommonPoolParallelism() + " workers, " + (same ? "same" : "DIFFERENT"));
+        }
+    }
+
+    private static long[] randomDurations(int count, int bound, Random random) {
+        long[] durations = new long[count];
+        for (int i = 0; i < count; i++) {
+            durations[i] = random.nextInt(bound);
+        }
+        return durations;
+    }
+}
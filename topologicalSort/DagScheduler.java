@@ -0,0 +1,511 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.IntFunction;
+
+/**
+ * <DagScheduler class runs one task per vertex of a DAG, each as soon as all
+ * tasks of its predecessors have finished>
+ *
+ * A dispatcher on the calling thread keeps the ready tasks in an IntMinHeap
+ * ordered by critical-path length, the number of vertices on the longest path
+ * from the task to a sink, so the tasks that bound the makespan start first.
+ * At most parallelism tasks run at a time. Finished tasks report back through
+ * a blocking queue; the dispatcher then decrements the remaining indegree of
+ * their successors. A task that throws fails, and every task that depends on
+ * it, directly or not, is cancelled without running.
+ *
+ * Tasks run on virtual threads when the JDK offers
+ * Executors.newVirtualThreadPerTaskExecutor, looked up by reflection, and on a
+ * fixed pool of parallelism platform threads otherwise.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class DagScheduler {
+
+    /**
+     * State of a task once the schedule has finished
+     */
+    public enum TaskState {
+        SUCCEEDED, FAILED, CANCELLED
+    }
+
+    private final Graph graph;
+    private final int parallelism;
+
+    // byRank[r] is the task with the r-th highest priority, rank is its inverse
+    private final int[] byRank;
+    private final int[] rank;
+    private final int[] criticalPath;
+
+    /**
+     * <Report class holds the outcome of one run: the state, result or failure
+     * and the timings of every task>
+     */
+    public static final class Report {
+
+        private final TaskState[] states;
+        private final Object[] results;
+        private final Throwable[] failures;
+        private final long[] readyNanos;
+        private final long[] startNanos;
+        private final long[] endNanos;
+        private final long makespanNanos;
+        private final boolean virtualThreads;
+
+        Report(TaskState[] states, Object[] results, Throwable[] failures, long[] readyNanos, long[] startNanos,
+                long[] endNanos, long makespanNanos, boolean virtualThreads) {
+            this.states = states;
+            this.results = results;
+            this.failures = failures;
+            this.readyNanos = readyNanos;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.makespanNanos = makespanNanos;
+            this.virtualThreads = virtualThreads;
+        }
+
+        /**
+         * getState method gets how a task ended
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public TaskState getState(int vertex) {
+            return states[vertex];
+        }
+
+        /**
+         * getResult method gets the value a succeeded task returned
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public Object getResult(int vertex) {
+            return results[vertex];
+        }
+
+        /**
+         * getFailure method gets what a failed task threw, or null
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public Throwable getFailure(int vertex) {
+            return failures[vertex];
+        }
+
+        /**
+         * getWaitNanos method gets how long a task waited between becoming
+         * ready and starting, or -1 if it never ran
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public long getWaitNanos(int vertex) {
+            return states[vertex] == TaskState.CANCELLED ? -1 : startNanos[vertex] - readyNanos[vertex];
+        }
+
+        /**
+         * getRunNanos method gets how long a task ran, or -1 if it never ran
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public long getRunNanos(int vertex) {
+            return states[vertex] == TaskState.CANCELLED ? -1 : endNanos[vertex] - startNanos[vertex];
+        }
+
+        /**
+         * getStartNanos method gets when a task started, on the System.nanoTime
+         * clock
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public long getStartNanos(int vertex) {
+            return startNanos[vertex];
+        }
+
+        /**
+         * getEndNanos method gets when a task ended, on the System.nanoTime
+         * clock
+         *
+         * @param vertex- a vertex of the graph of type integer
+         */
+        public long getEndNanos(int vertex) {
+            return endNanos[vertex];
+        }
+
+        /**
+         * getMakespanNanos method gets the time from the start of the run to
+         * the end of the last task
+         */
+        public long getMakespanNanos() {
+            return makespanNanos;
+        }
+
+        /**
+         * usedVirtualThreads method tells whether the tasks ran on virtual
+         * threads
+         */
+        public boolean usedVirtualThreads() {
+            return virtualThreads;
+        }
+
+        /**
+         * count method gets the number of tasks that ended in a state
+         *
+         * @param state the state to count
+         */
+        public int count(TaskState state) {
+            int count = 0;
+            for (TaskState s : states) {
+                if (s == state) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Rethrows the failure of the lowest failed task, if any.
+         *
+         * @throws ExecutionException wrapping what the task threw
+         */
+        public void throwIfFailed() throws ExecutionException {
+            for (int vertex = 0; vertex < states.length; vertex++) {
+                if (states[vertex] == TaskState.FAILED) {
+                    throw new ExecutionException("Task " + vertex + " failed", failures[vertex]);
+                }
+            }
+        }
+    }
+
+    /**
+     * constructor for the class DagScheduler
+     *
+     * @param graph       the dependencies: an edge u -> v makes v wait for u
+     * @param parallelism the most tasks that may run at once
+     * @throws IllegalArgumentException if the graph has a cycle or
+     *                                  parallelism is below 1
+     */
+    public DagScheduler(Graph graph, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+        }
+        TopologicalSortResult result = graph.sort(false);
+        if (!result.isAcyclic()) {
+            throw new IllegalArgumentException("Graph has a cycle through vertices "
+                    + Arrays.toString(result.getCycle()));
+        }
+        this.graph = graph;
+        this.parallelism = parallelism;
+
+        // Longest path to a sink, counted in vertices, from one backward sweep
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] order = result.getOrder();
+        criticalPath = new int[vertexCount];
+        for (int i = vertexCount - 1; i >= 0; i--) {
+            int vertex = order[i];
+            int longest = 0;
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                longest = Math.max(longest, criticalPath[targets[e]]);
+            }
+            criticalPath[vertex] = longest + 1;
+        }
+
+        // Rank by descending critical path, ties by vertex, with a counting sort
+        int[] bucketStarts = new int[vertexCount + 2];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            bucketStarts[vertexCount + 1 - criticalPath[vertex]]++;
+        }
+        for (int bucket = 1; bucket < bucketStarts.length; bucket++) {
+            bucketStarts[bucket] += bucketStarts[bucket - 1];
+        }
+        byRank = new int[vertexCount];
+        rank = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int r = bucketStarts[vertexCount - criticalPath[vertex]]++;
+            byRank[r] = vertex;
+            rank[vertex] = r;
+        }
+    }
+
+    /**
+     * getCriticalPathLength method gets the number of vertices on the longest
+     * path from a vertex to a sink, which is the priority of its task
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public int getCriticalPathLength(int vertex) {
+        return criticalPath[vertex];
+    }
+
+    /**
+     * Runs every task once its predecessors have succeeded and waits for the
+     * whole graph to finish.
+     *
+     * @param tasks gives the task of every vertex
+     * @return the state and timings of every task
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting; running tasks are interrupted too
+     */
+    public Report run(IntFunction<? extends Callable<?>> tasks) throws InterruptedException {
+        return schedule(tasks);
+    }
+
+    /**
+     * Runs every task once its predecessors have succeeded, like run, for
+     * tasks without a result. Each Runnable is wrapped with Executors.callable,
+     * so the result of every task is null. It cannot be an overload of run,
+     * since both take an IntFunction.
+     *
+     * @param tasks gives the task of every vertex
+     * @return the state and timings of every task
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting; running tasks are interrupted too
+     */
+    public Report runActions(IntFunction<? extends Runnable> tasks) throws InterruptedException {
+        return schedule(vertex -> Executors.callable(tasks.apply(vertex)));
+    }
+
+    private Report schedule(IntFunction<? extends Callable<?>> tasks) throws InterruptedException {
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
+        TaskState[] states = new TaskState[vertexCount];
+        Object[] results = new Object[vertexCount];
+        Throwable[] failures = new Throwable[vertexCount];
+        long[] readyNanos = new long[vertexCount];
+        long[] startNanos = new long[vertexCount];
+        long[] endNanos = new long[vertexCount];
+        int[] remaining = new int[vertexCount];
+        LinkedBlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+        IntMinHeap ready = new IntMinHeap(vertexCount);
+
+        long runStart = System.nanoTime();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            remaining[vertex] = graph.getIndegree(vertex);
+            if (remaining[vertex] == 0) {
+                readyNanos[vertex] = runStart;
+                ready.push(rank[vertex]);
+            }
+        }
+
+        boolean[] virtualThreads = new boolean[1];
+        ExecutorService executor = newExecutor(parallelism, virtualThreads);
+        int done = 0;
+        int running = 0;
+        long lastEnd = runStart;
+        try {
+            while (done < vertexCount) {
+                while (running < parallelism && !ready.isEmpty()) {
+                    int vertex = byRank[ready.pop()];
+                    Callable<?> task = tasks.apply(vertex);
+                    running++;
+                    executor.execute(() -> {
+                        startNanos[vertex] = System.nanoTime();
+                        try {
+                            results[vertex] = task.call();
+                            states[vertex] = TaskState.SUCCEEDED;
+                        } catch (Throwable t) {
+                            failures[vertex] = t;
+                            states[vertex] = TaskState.FAILED;
+                        }
+                        endNanos[vertex] = System.nanoTime();
+                        finished.add(vertex);
+                    });
+                }
+
+                int vertex = finished.take();
+                running--;
+                done++;
+                lastEnd = Math.max(lastEnd, endNanos[vertex]);
+
+                if (states[vertex] == TaskState.FAILED) {
+                    done += cancelDescendants(vertex, states, offsets, targets);
+                    continue;
+                }
+                for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                    int successor = targets[e];
+                    if (--remaining[successor] == 0 && states[successor] != TaskState.CANCELLED) {
+                        readyNanos[successor] = System.nanoTime();
+                        ready.push(rank[successor]);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new Report(states, results, failures, readyNanos, startNanos, endNanos, lastEnd - runStart,
+                virtualThreads[0]);
+    }
+
+    /**
+     * Marks every task reachable from a failed one as cancelled. None of them
+     * can have started, since each waits for the failed task.
+     *
+     * @return the number of tasks newly cancelled
+     */
+    private int cancelDescendants(int failed, TaskState[] states, int[] offsets, int[] targets) {
+        int[] stack = new int[graph.getVertexCount()];
+        int top = 0;
+        int cancelled = 0;
+        stack[top++] = failed;
+        while (top > 0) {
+            int vertex = stack[--top];
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                int successor = targets[e];
+                if (states[successor] == null) {
+                    states[successor] = TaskState.CANCELLED;
+                    cancelled++;
+                    stack[top++] = successor;
+                }
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor if this JDK has one, and a
+     * fixed pool of parallelism platform threads otherwise. The dispatcher
+     * caps the running tasks either way.
+     */
+    private static ExecutorService newExecutor(int parallelism, boolean[] virtualThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            virtualThreads[0] = true;
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            virtualThreads[0] = false;
+            return Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "dag-task");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Checks a report: no task started before all its predecessors ended, a
+     * task is cancelled exactly when one of its ancestors failed, and at most
+     * parallelism tasks overlapped.
+     */
+    static boolean isValid(Graph graph, Report report, int parallelism) {
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        boolean[] blocked = new boolean[vertexCount];
+        for (int vertex : graph.topologicalOrder(false)) {
+            TaskState state = report.getState(vertex);
+            if (blocked[vertex] != (state == TaskState.CANCELLED)) {
+                return false;
+            }
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                int successor = targets[e];
+                blocked[successor] |= state != TaskState.SUCCEEDED;
+                if (state == TaskState.SUCCEEDED && report.getState(successor) != TaskState.CANCELLED
+                        && report.getStartNanos(successor) < report.getEndNanos(vertex)) {
+                    return false;
+                }
+            }
+        }
+
+        // Sweep the start and end events in time to find the largest overlap
+        ArrayList<long[]> events = new ArrayList<>();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (report.getState(vertex) != TaskState.CANCELLED) {
+                events.add(new long[] { report.getStartNanos(vertex), 1 });
+                events.add(new long[] { report.getEndNanos(vertex), -1 });
+            }
+        }
+        events.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        int overlap = 0;
+        for (long[] event : events) {
+            overlap += (int) event[1];
+            if (overlap > parallelism) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Main method for DagScheduler: runs every acyclic graph of an input file
+     * as tasks that sleep a little, once as is, once with one task failing and
+     * once as Runnable tasks, and checks dependencies, cancellation and the
+     * parallelism cap.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        int parallelism = 4;
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                if (!g.sort(false).isAcyclic()) {
+                    System.out.println("G" + count + ": cyclic, not scheduled");
+                    continue;
+                }
+                if (g.getVertexCount() == 0) {
+                    System.out.println("G" + count + ": no vertices, nothing to schedule");
+                    continue;
+                }
+                DagScheduler scheduler = new DagScheduler(g, parallelism);
+                Report report = scheduler.run(vertex -> () -> {
+                    Thread.sleep(1);
+                    return vertex;
+                });
+
+                int failing = g.topologicalOrder(true)[g.getVertexCount() / 4];
+                Report failed = scheduler.run(vertex -> () -> {
+                    if (vertex == failing) {
+                        throw new IllegalStateException("task " + vertex + " failed");
+                    }
+                    return vertex;
+                });
+
+                Report actions = scheduler.runActions(vertex -> () -> {
+                });
+
+                boolean same = report.count(TaskState.SUCCEEDED) == g.getVertexCount()
+                        && actions.count(TaskState.SUCCEEDED) == g.getVertexCount()
+                        && isValid(g, report, parallelism) && isValid(g, failed, parallelism)
+                        && isValid(g, actions, parallelism) && failed.count(TaskState.FAILED) == 1;
+                if (!same) {
+                    mismatches++;
+                }
+                long sequential = 0;
+                for (int vertex = 0; vertex < g.getVertexCount(); vertex++) {
+                    sequential += report.getRunNanos(vertex);
+                }
+                System.out.println("G" + count + ": makespan " + report.getMakespanNanos() / 1000000
+                        + " ms for " + sequential / 1000000 + " ms of tasks, critical path "
+                        + scheduler.getCriticalPathLength(scheduler.byRank[0]) + "; failing task "
+                        + failing + " cancelled " + failed.count(TaskState.CANCELLED) + " descendants, "
+                        + (same ? "valid" : "INVALID") + (report.usedVirtualThreads() ? " (virtual threads)" : ""));
+            }
+            System.out.println(mismatches == 0 ? "All schedules valid." : mismatches + " schedules invalid.");
+        } catch (IOException | InterruptedException e) {
+
+            e.printStackTrace();
+        }
+    }
+}
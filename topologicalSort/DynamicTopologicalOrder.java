@@ -0,0 +1,493 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <DynamicTopologicalOrder class keeps a topological order of a DAG up to date
+ * while edges are inserted one at a time, with the Pearce-Kelly algorithm>
+ *
+ * Each vertex has a position in the order, and position(v) is an array
+ * lookup. An edge (u, v) with u already before v needs no work. Otherwise only
+ * the affected region between the positions of v and u is searched: forward
+ * from v over vertices up to u's position, and backward from u over vertices
+ * after v's position. If the forward search reaches u the edge would close a
+ * cycle and is rejected; if not, the vertices found backward are moved in
+ * front of those found forward, reusing exactly the positions they held.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class DynamicTopologicalOrder {
+
+    private int vertexCount;
+    private int edgeCount;
+
+    // Successors and predecessors of every vertex, grown as edges arrive
+    private int[][] successors;
+    private int[] successorCounts;
+    private int[][] predecessors;
+    private int[] predecessorCounts;
+
+    // position[v] is the index of v in the order, vertexAt is its inverse
+    private int[] position;
+    private int[] vertexAt;
+
+    // Search state reused across insertions; visited[v] == epoch marks v seen
+    private int[] visited;
+    private int epoch;
+    private int[] parent;
+    private int[] stack;
+    private int[] forward;
+    private int[] backward;
+    private int[] slots;
+
+    /**
+     * constructor for the class DynamicTopologicalOrder
+     *
+     * @param graph the acyclic graph whose vertices and edges are the start
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public DynamicTopologicalOrder(Graph graph) {
+        TopologicalSortResult result = graph.sort(true);
+        if (!result.isAcyclic()) {
+            throw new IllegalArgumentException("Graph has a cycle through vertices "
+                    + Arrays.toString(result.getCycle()));
+        }
+
+        vertexCount = graph.getVertexCount();
+        int capacity = Math.max(vertexCount, 16);
+        successors = new int[capacity][];
+        successorCounts = new int[capacity];
+        predecessors = new int[capacity][];
+        predecessorCounts = new int[capacity];
+        position = new int[capacity];
+        vertexAt = new int[capacity];
+        visited = new int[capacity];
+        parent = new int[capacity];
+        stack = new int[capacity];
+        forward = new int[capacity];
+        backward = new int[capacity];
+        slots = new int[capacity];
+
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            successors[vertex] = Arrays.copyOfRange(targets, offsets[vertex], offsets[vertex + 1]);
+            successorCounts[vertex] = successors[vertex].length;
+            predecessors[vertex] = new int[Math.max(graph.getIndegree(vertex), 2)];
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int successor = targets[i];
+                predecessors[successor][predecessorCounts[successor]++] = vertex;
+            }
+        }
+        edgeCount = graph.getEdgeCount();
+
+        int[] order = result.getOrder();
+        for (int i = 0; i < vertexCount; i++) {
+            vertexAt[i] = order[i];
+            position[order[i]] = i;
+        }
+    }
+
+    /**
+     * addVertex method adds the next vertex, numbered getVertexCount(), at the
+     * end of the order
+     *
+     * @return the new vertex
+     */
+    public int addVertex() {
+        if (vertexCount == position.length) {
+            grow(vertexCount * 2);
+        }
+        int vertex = vertexCount++;
+        successors[vertex] = new int[2];
+        predecessors[vertex] = new int[2];
+        position[vertex] = vertex;
+        vertexAt[vertex] = vertex;
+        return vertex;
+    }
+
+    /**
+     * addEdge method inserts the edge source -> destination unless it would
+     * close a cycle, and repairs the order of the affected region.
+     *
+     * @param source      -- source vertex
+     * @param destination--destination vertex
+     * @return null if the edge was inserted; otherwise the cycle it would have
+     *         closed, as vertices destination, ..., source, each with an edge
+     *         to the next
+     * @throws IndexOutOfBoundsException if either vertex does not exist
+     */
+    public int[] addEdge(int source, int destination) {
+        if (source < 0 || source >= vertexCount || destination < 0 || destination >= vertexCount) {
+            throw new IndexOutOfBoundsException("Edge (" + source + ", " + destination
+                    + ") refers to a vertex outside 0.." + (vertexCount - 1));
+        }
+        if (source == destination) {
+            return new int[] { source };
+        }
+
+        int lowerBound = position[destination];
+        int upperBound = position[source];
+        if (lowerBound > upperBound) {
+            link(source, destination);
+            return null;
+        }
+
+        nextEpoch();
+        int forwardCount = searchForward(destination, source, upperBound);
+        if (forwardCount < 0) {
+            return cyclePath(destination, source);
+        }
+        int backwardCount = searchBackward(source, lowerBound);
+        reorder(forwardCount, backwardCount);
+        link(source, destination);
+        return null;
+    }
+
+    /**
+     * position method gets the index of a vertex in the current order
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+    public int position(int vertex) {
+        return position[vertex];
+    }
+
+    /**
+     * vertexAt method gets the vertex at an index of the current order
+     *
+     * @param index- an index between 0 and getVertexCount() - 1
+     */
+    public int vertexAt(int index) {
+        return vertexAt[index];
+    }
+
+    /**
+     * getOrder method gets a copy of the current order
+     */
+    public int[] getOrder() {
+        return Arrays.copyOf(vertexAt, vertexCount);
+    }
+
+    /**
+     * getVertexCount method gets the number of vertices
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * getEdgeCount method gets the number of edges inserted so far, including
+     * those of the starting graph
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Depth-first search from start over successors whose position is at most
+     * upperBound. Fills forward with the vertices reached.
+     *
+     * @return the number of vertices reached, or -1 if target was reached
+     */
+    private int searchForward(int start, int target, int upperBound) {
+        int count = 0;
+        int top = 0;
+        visited[start] = epoch;
+        parent[start] = -1;
+        stack[top++] = start;
+        while (top > 0) {
+            int vertex = stack[--top];
+            forward[count++] = vertex;
+            int[] row = successors[vertex];
+            for (int i = 0; i < successorCounts[vertex]; i++) {
+                int successor = row[i];
+                if (successor == target) {
+                    parent[target] = vertex;
+                    return -1;
+                }
+                if (visited[successor] != epoch && position[successor] < upperBound) {
+                    visited[successor] = epoch;
+                    parent[successor] = vertex;
+                    stack[top++] = successor;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Depth-first search from start over predecessors whose position is above
+     * lowerBound. Fills backward with the vertices reached.
+     *
+     * @return the number of vertices reached
+     */
+    private int searchBackward(int start, int lowerBound) {
+        int count = 0;
+        int top = 0;
+        visited[start] = epoch;
+        stack[top++] = start;
+        while (top > 0) {
+            int vertex = stack[--top];
+            backward[count++] = vertex;
+            int[] row = predecessors[vertex];
+            for (int i = 0; i < predecessorCounts[vertex]; i++) {
+                int predecessor = row[i];
+                if (visited[predecessor] != epoch && position[predecessor] > lowerBound) {
+                    visited[predecessor] = epoch;
+                    stack[top++] = predecessor;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gives the backward vertices the lowest of the freed positions and the
+     * forward vertices the rest, each group keeping its relative order.
+     */
+    private void reorder(int forwardCount, int backwardCount) {
+        sortByPosition(backward, backwardCount);
+        sortByPosition(forward, forwardCount);
+
+        int total = 0;
+        for (int i = 0; i < backwardCount; i++) {
+            slots[total++] = position[backward[i]];
+        }
+        for (int i = 0; i < forwardCount; i++) {
+            slots[total++] = position[forward[i]];
+        }
+        Arrays.sort(slots, 0, total);
+
+        int slot = 0;
+        for (int i = 0; i < backwardCount; i++) {
+            place(backward[i], slots[slot++]);
+        }
+        for (int i = 0; i < forwardCount; i++) {
+            place(forward[i], slots[slot++]);
+        }
+    }
+
+    /**
+     * Sorts vertices[0, count) by their current position, by sorting the
+     * positions and reading the vertices back from vertexAt.
+     */
+    private void sortByPosition(int[] vertices, int count) {
+        for (int i = 0; i < count; i++) {
+            vertices[i] = position[vertices[i]];
+        }
+        Arrays.sort(vertices, 0, count);
+        for (int i = 0; i < count; i++) {
+            vertices[i] = vertexAt[vertices[i]];
+        }
+    }
+
+    private void place(int vertex, int index) {
+        position[vertex] = index;
+        vertexAt[index] = vertex;
+    }
+
+    /**
+     * Reads the path start -> ... -> end recorded by the forward search.
+     */
+    private int[] cyclePath(int start, int end) {
+        int length = 1;
+        for (int vertex = end; vertex != start; vertex = parent[vertex]) {
+            length++;
+        }
+        int[] cycle = new int[length];
+        int vertex = end;
+        for (int i = length - 1; i > 0; i--) {
+            cycle[i] = vertex;
+            vertex = parent[vertex];
+        }
+        cycle[0] = start;
+        return cycle;
+    }
+
+    private void link(int source, int destination) {
+        if (successorCounts[source] == successors[source].length) {
+            successors[source] = Arrays.copyOf(successors[source], Math.max(successorCounts[source] * 2, 2));
+        }
+        successors[source][successorCounts[source]++] = destination;
+        if (predecessorCounts[destination] == predecessors[destination].length) {
+            predecessors[destination] = Arrays.copyOf(predecessors[destination],
+                    predecessorCounts[destination] * 2);
+        }
+        predecessors[destination][predecessorCounts[destination]++] = source;
+        edgeCount++;
+    }
+
+    private void nextEpoch() {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            epoch = 1;
+        }
+    }
+
+    private void grow(int capacity) {
+        successors = Arrays.copyOf(successors, capacity);
+        successorCounts = Arrays.copyOf(successorCounts, capacity);
+        predecessors = Arrays.copyOf(predecessors, capacity);
+        predecessorCounts = Arrays.copyOf(predecessorCounts, capacity);
+        position = Arrays.copyOf(position, capacity);
+        vertexAt = Arrays.copyOf(vertexAt, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+        parent = new int[capacity];
+        stack = new int[capacity];
+        forward = new int[capacity];
+        backward = new int[capacity];
+        slots = new int[capacity];
+    }
+
+    /**
+     * Checks that every inserted edge goes forward in the current order.
+     */
+    boolean isValid() {
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (vertexAt[position[vertex]] != vertex) {
+                return false;
+            }
+            for (int i = 0; i < successorCounts[vertex]; i++) {
+                if (position[vertex] >= position[successors[vertex][i]]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Main method for DynamicTopologicalOrder: replays the edges of every graph
+     * of an input file one at a time, checks that exactly the edges closing a
+     * cycle are rejected and that the order stays valid, then compares the
+     * insertion cost with re-sorting on a random DAG.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                Graph accepted = new Graph();
+                for (int vertex = 0; vertex < g.getVertexCount(); vertex++) {
+                    accepted.addVertex(vertex);
+                }
+                DynamicTopologicalOrder dynamic = new DynamicTopologicalOrder(accepted);
+                int rejected = 0;
+                boolean same = true;
+
+                int[] offsets = g.getOffsets();
+                int[] targets = g.getTargets();
+                for (int vertex = 0; vertex < g.getVertexCount(); vertex++) {
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                        // The edge closes a cycle iff its source is reachable from its target
+                        boolean cyclic = reaches(accepted, targets[i], vertex);
+                        int[] cycle = dynamic.addEdge(vertex, targets[i]);
+                        if (cycle != null) {
+                            rejected++;
+                            same &= cyclic && isCycle(g, cycle, vertex, targets[i]);
+                        } else {
+                            same &= !cyclic;
+                            accepted.addEdge(vertex, targets[i]);
+                        }
+                    }
+                }
+                same &= dynamic.isValid();
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + rejected + " cycle-closing edges rejected, "
+                        + (same ? "matches Kahn" : "DOES NOT match Kahn"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs match." : mismatches + " graphs differ.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        int vertexCount = 100000;
+        int insertions = 200000;
+        Graph empty = new Graph();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            empty.addVertex(vertex);
+        }
+        DynamicTopologicalOrder dynamic = new DynamicTopologicalOrder(empty);
+        Random random = new Random(42);
+        int rejected = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < insertions; i++) {
+            if (dynamic.addEdge(random.nextInt(vertexCount), random.nextInt(vertexCount)) != null) {
+                rejected++;
+            }
+        }
+        long dynamicTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            empty.topologicalOrder(true);
+        }
+        long sortTime = (System.nanoTime() - start) / 100;
+
+        System.out.println(insertions + " random insertions on " + vertexCount + " vertices: "
+                + dynamicTime / insertions + " ns per insertion (" + rejected + " rejected), one full sort "
+                + sortTime + " ns, order " + (dynamic.isValid() ? "valid" : "INVALID"));
+    }
+
+    /**
+     * Checks that cycle is a cycle of g closed by the edge source ->
+     * destination.
+     */
+    private static boolean isCycle(Graph g, int[] cycle, int source, int destination) {
+        if (cycle[0] != destination || cycle[cycle.length - 1] != source) {
+            return false;
+        }
+        for (int i = 0; i + 1 < cycle.length; i++) {
+            if (!g.getNeighbors(cycle[i]).contains(cycle[i + 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether target can be reached from start in g.
+     */
+    private static boolean reaches(Graph g, int start, int target) {
+        int[] offsets = g.getOffsets();
+        int[] targets = g.getTargets();
+        boolean[] seen = new boolean[g.getVertexCount()];
+        int[] queue = new int[g.getVertexCount()];
+        int tail = 0;
+        seen[start] = true;
+        queue[tail++] = start;
+        for (int head = 0; head < tail; head++) {
+            int vertex = queue[head];
+            if (vertex == target) {
+                return true;
+            }
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                if (!seen[targets[i]]) {
+                    seen[targets[i]] = true;
+                    queue[tail++] = targets[i];
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.util.Arrays;
+
+/**
+ * <IntMinHeap class is a binary min-heap of primitive ints, used instead of a
+ * PriorityQueue<Integer> so no value is ever boxed>
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class IntMinHeap {
+
+    private int[] heap;
+    private int size;
+
+    /**
+     * constructor for the class IntMinHeap
+     *
+     * @param capacity initial capacity; the heap grows when needed
+     */
+    public IntMinHeap(int capacity) {
+        heap = new int[Math.max(capacity, 1)];
+        size = 0;
+    }
+
+    /**
+     * push method adds a value to the heap
+     *
+     * @param value- the value to add
+     */
+    public void push(int value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        // Sift the new value up from the last slot
+        int child = size++;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[child] = heap[parent];
+            child = parent;
+        }
+        heap[child] = value;
+    }
+
+    /**
+     * pop method removes and returns the smallest value
+     *
+     * @throws IllegalStateException if the heap is empty
+     */
+    public int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int smallest = heap[0];
+        int last = heap[--size];
+
+        // Sift the last value down from the root
+        int parent = 0;
+        int half = size >>> 1;
+        while (parent < half) {
+            int child = 2 * parent + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[parent] = heap[child];
+            parent = child;
+        }
+        heap[parent] = last;
+        return smallest;
+    }
+
+    /**
+     * peek method returns the smallest value without removing it
+     *
+     * @throws IllegalStateException if the heap is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * isEmpty method tells whether the heap holds no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * size method gets the number of values in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * clear method removes all values, keeping the capacity
+     */
+    public void clear() {
+        size = 0;
+    }
+}
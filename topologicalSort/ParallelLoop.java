@@ -0,0 +1,78 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * <ParallelLoop class runs a body for every index of a range on a
+ * ForkJoinPool>
+ *
+ * The range is split in halves until a piece holds at most grain indices, and
+ * every piece runs its indices in ascending order on one worker.
+ *
+ * This is the same class as BFS_DFS/ParallelLoop.java. Each directory of the
+ * repository is a separate default-package program with its own Graph class,
+ * so the two cannot share one copy; keep them in step when changing either.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class ParallelLoop {
+
+    private ParallelLoop() {
+    }
+
+    /**
+     * Runs body.accept(i) for every i in [from, to) and waits for all of them.
+     *
+     * @param pool  the pool to run on
+     * @param from  first index, inclusive
+     * @param to    last index, exclusive
+     * @param grain largest piece run sequentially
+     * @param body  the loop body
+     */
+    public static void forEach(ForkJoinPool pool, int from, int to, int grain, IntConsumer body) {
+        if (to - from <= grain) {
+            for (int i = from; i < to; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new RangeTask(from, to, Math.max(1, grain), body));
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final IntConsumer body;
+
+        RangeTask(int from, int to, int grain, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    body.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, grain, body), new RangeTask(middle, to, grain, body));
+        }
+    }
+}
@@ -0,0 +1,411 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <ParallelStronglyConnectedComponents class finds the strongly connected
+ * components of a directed Graph on a ForkJoinPool in three steps: trimming,
+ * forward-backward reachability from a pivot, and color propagation>
+ *
+ * Every vertex starts unlabeled (-1) and is labeled exactly once, by a
+ * compare-and-set on its label, with a vertex of its component.
+ * 1. Trimming: a vertex without unlabeled predecessors or without unlabeled
+ * successors is a component of its own. Live in- and out-degrees are kept in
+ * AtomicIntegerArrays; labeling a vertex decrements those of its neighbours,
+ * and a neighbour whose count reaches zero is trimmed in the next wave.
+ * 2. Forward-backward: from the unlabeled vertex with the largest degree
+ * product, a parallel BFS marks everything it reaches; a backward BFS over the
+ * reverse adjacency, restricted to the marked vertices, then yields the
+ * pivot's component, which on real graphs is usually the giant one.
+ * 3. Coloring: each unlabeled vertex starts with its own id as color and the
+ * largest color is pushed along edges until nothing changes. A vertex that
+ * kept its own color is a root, and its component is everything of its color
+ * that reaches it backwards. This repeats until no vertex is unlabeled.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class ParallelStronglyConnectedComponents {
+
+    // Largest piece of a vertex range handled by one task
+    private static final int GRAIN = 1024;
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    private int trimmedCount;
+    private int pivotComponentSize;
+    private int colorRounds;
+
+    /**
+     * Decides, for an edge being expanded from a vertex, whether the vertex at
+     * its other end joins the search; it must claim the vertex atomically.
+     */
+    private interface EdgeClaim {
+        boolean claim(int from, int to);
+    }
+
+    /**
+     * constructor for the class ParallelStronglyConnectedComponents using the
+     * common ForkJoinPool
+     *
+     * @param graph the graph to decompose
+     */
+    public ParallelStronglyConnectedComponents(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class ParallelStronglyConnectedComponents
+     *
+     * @param graph the graph to decompose
+     * @param pool  the pool every step runs on
+     */
+    public ParallelStronglyConnectedComponents(Graph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the strongly connected components.
+     *
+     * @return the components, numbered in a topological order of the
+     *         condensation
+     */
+    public StronglyConnectedComponents run() {
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] reverseOffsets = graph.getReverseOffsets();
+        int[] reverseTargets = graph.getReverseTargets();
+
+        AtomicIntegerArray label = new AtomicIntegerArray(vertexCount);
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> label.set(vertex, -1));
+        int[] queue = new int[vertexCount];
+
+        trimmedCount = trim(label, queue, offsets, targets, reverseOffsets, reverseTargets);
+        pivotComponentSize = forwardBackward(label, queue, offsets, targets, reverseOffsets, reverseTargets);
+        colorRounds = color(label, queue, offsets, targets, reverseOffsets, reverseTargets);
+
+        int[] labels = new int[vertexCount];
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> labels[vertex] = label.get(vertex));
+        return StronglyConnectedComponents.fromLabels(labels, offsets, targets);
+    }
+
+    /**
+     * getTrimmedCount method gets how many vertices the last run labeled by
+     * trimming
+     */
+    public int getTrimmedCount() {
+        return trimmedCount;
+    }
+
+    /**
+     * getPivotComponentSize method gets the size of the component the last run
+     * found by forward-backward reachability
+     */
+    public int getPivotComponentSize() {
+        return pivotComponentSize;
+    }
+
+    /**
+     * getColorRounds method gets how many rounds of color propagation the last
+     * run needed
+     */
+    public int getColorRounds() {
+        return colorRounds;
+    }
+
+    /**
+     * Labels every vertex that trimming can peel off.
+     *
+     * @return the number of vertices trimmed
+     */
+    private int trim(AtomicIntegerArray label, int[] queue, int[] offsets, int[] targets, int[] reverseOffsets,
+            int[] reverseTargets) {
+        int vertexCount = label.length();
+        AtomicIntegerArray liveIndegree = new AtomicIntegerArray(vertexCount);
+        AtomicIntegerArray liveOutdegree = new AtomicIntegerArray(vertexCount);
+        AtomicInteger tail = new AtomicInteger();
+
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> {
+            int in = reverseOffsets[vertex + 1] - reverseOffsets[vertex];
+            int out = offsets[vertex + 1] - offsets[vertex];
+            liveIndegree.set(vertex, in);
+            liveOutdegree.set(vertex, out);
+            if ((in == 0 || out == 0) && label.compareAndSet(vertex, -1, vertex)) {
+                queue[tail.getAndIncrement()] = vertex;
+            }
+        });
+
+        int from = 0;
+        while (from < tail.get()) {
+            int to = tail.get();
+            ParallelLoop.forEach(pool, from, to, GRAIN, f -> {
+                int vertex = queue[f];
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    int successor = targets[i];
+                    if (liveIndegree.decrementAndGet(successor) == 0 && label.compareAndSet(successor, -1, successor)) {
+                        queue[tail.getAndIncrement()] = successor;
+                    }
+                }
+                for (int i = reverseOffsets[vertex]; i < reverseOffsets[vertex + 1]; i++) {
+                    int predecessor = reverseTargets[i];
+                    if (liveOutdegree.decrementAndGet(predecessor) == 0
+                            && label.compareAndSet(predecessor, -1, predecessor)) {
+                        queue[tail.getAndIncrement()] = predecessor;
+                    }
+                }
+            });
+            from = to;
+        }
+        return tail.get();
+    }
+
+    /**
+     * Labels the component of the unlabeled vertex with the largest product
+     * of in- and out-degree.
+     *
+     * @return the size of that component, or 0 if every vertex is labeled
+     */
+    private int forwardBackward(AtomicIntegerArray label, int[] queue, int[] offsets, int[] targets,
+            int[] reverseOffsets, int[] reverseTargets) {
+        int vertexCount = label.length();
+        int pivot = -1;
+        long best = -1;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (label.get(vertex) != -1) {
+                continue;
+            }
+            long product = (long) (offsets[vertex + 1] - offsets[vertex])
+                    * (reverseOffsets[vertex + 1] - reverseOffsets[vertex]);
+            if (product > best) {
+                best = product;
+                pivot = vertex;
+            }
+        }
+        if (pivot == -1) {
+            return 0;
+        }
+
+        AtomicIntegerArray reached = new AtomicIntegerArray(vertexCount);
+        reached.set(pivot, 1);
+        queue[0] = pivot;
+        spread(queue, 1, offsets, targets,
+                (from, to) -> label.get(to) == -1 && reached.compareAndSet(to, 0, 1));
+
+        int component = pivot;
+        label.set(pivot, component);
+        queue[0] = pivot;
+        return spread(queue, 1, reverseOffsets, reverseTargets,
+                (from, to) -> reached.get(to) == 1 && label.compareAndSet(to, -1, component));
+    }
+
+    /**
+     * Labels all remaining vertices by rounds of color propagation.
+     *
+     * @return the number of rounds
+     */
+    private int color(AtomicIntegerArray label, int[] queue, int[] offsets, int[] targets, int[] reverseOffsets,
+            int[] reverseTargets) {
+        int vertexCount = label.length();
+        AtomicIntegerArray color = new AtomicIntegerArray(vertexCount);
+        AtomicIntegerArray queuedIn = new AtomicIntegerArray(vertexCount);
+        AtomicInteger tail = new AtomicInteger();
+
+        ParallelLoop.forEach(pool, 0, vertexCount, GRAIN, vertex -> {
+            if (label.get(vertex) == -1) {
+                queue[tail.getAndIncrement()] = vertex;
+            }
+        });
+        int[] live = new int[tail.get()];
+        System.arraycopy(queue, 0, live, 0, live.length);
+        int liveCount = live.length;
+        int rounds = 0;
+
+        while (liveCount > 0) {
+            rounds++;
+            int round = rounds;
+            int[] current = live;
+            ParallelLoop.forEach(pool, 0, liveCount, GRAIN, i -> {
+                color.set(current[i], current[i]);
+                queuedIn.set(current[i], round);
+            });
+
+            // Push the largest color forward; a vertex whose color grew is expanded again
+            System.arraycopy(current, 0, queue, 0, liveCount);
+            int frontierSize = liveCount;
+            int[] next = new int[liveCount];
+            while (frontierSize > 0) {
+                int[] frontier = queue;
+                AtomicInteger nextSize = new AtomicInteger();
+                int size = frontierSize;
+                ParallelLoop.forEach(pool, 0, size, GRAIN, f -> {
+                    int vertex = frontier[f];
+                    queuedIn.set(vertex, -round);
+                    int vertexColor = color.get(vertex);
+                    for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                        int successor = targets[i];
+                        if (label.get(successor) != -1) {
+                            continue;
+                        }
+                        int successorColor = color.get(successor);
+                        while (successorColor < vertexColor) {
+                            if (color.compareAndSet(successor, successorColor, vertexColor)) {
+                                if (queuedIn.getAndSet(successor, round) != round) {
+                                    next[nextSize.getAndIncrement()] = successor;
+                                }
+                                break;
+                            }
+                            successorColor = color.get(successor);
+                        }
+                    }
+                });
+                frontierSize = nextSize.get();
+                System.arraycopy(next, 0, queue, 0, frontierSize);
+            }
+
+            // Every vertex that kept its own color roots a component of that color
+            tail.set(0);
+            ParallelLoop.forEach(pool, 0, liveCount, GRAIN, i -> {
+                int vertex = current[i];
+                if (color.get(vertex) == vertex && label.compareAndSet(vertex, -1, vertex)) {
+                    queue[tail.getAndIncrement()] = vertex;
+                }
+            });
+            spread(queue, tail.get(), reverseOffsets, reverseTargets, (from, to) -> {
+                int fromColor = color.get(from);
+                return color.get(to) == fromColor && label.compareAndSet(to, -1, fromColor);
+            });
+
+            tail.set(0);
+            int[] remaining = new int[liveCount];
+            ParallelLoop.forEach(pool, 0, liveCount, GRAIN, i -> {
+                if (label.get(current[i]) == -1) {
+                    remaining[tail.getAndIncrement()] = current[i];
+                }
+            });
+            live = remaining;
+            liveCount = tail.get();
+        }
+        return rounds;
+    }
+
+    /**
+     * Breadth-first search in waves from queue[0, count): every edge of a
+     * vertex in the current wave is offered to claim, and the vertices it
+     * claims form the next wave, appended behind it in queue.
+     *
+     * @return the number of vertices in queue once no wave claims anything
+     */
+    private int spread(int[] queue, int count, int[] offsets, int[] targets, EdgeClaim claim) {
+        AtomicInteger tail = new AtomicInteger(count);
+        int from = 0;
+        while (from < tail.get()) {
+            int to = tail.get();
+            ParallelLoop.forEach(pool, from, to, GRAIN, f -> {
+                int vertex = queue[f];
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    if (claim.claim(vertex, targets[i])) {
+                        queue[tail.getAndIncrement()] = targets[i];
+                    }
+                }
+            });
+            from = to;
+        }
+        return tail.get();
+    }
+
+    /**
+     * Builds a random graph with a giant component: a random cycle through the
+     * first half of the vertices, random edges among all of them, and a tail
+     * of paths hanging off it.
+     */
+    private static Graph randomGraph(int vertexCount, int edgeCount, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            graph.addVertex(vertex);
+        }
+        int half = vertexCount / 2;
+        for (int vertex = 0; vertex < half; vertex++) {
+            graph.addEdge(vertex, (vertex + 1) % half);
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            int source = random.nextInt(vertexCount);
+            int destination = random.nextInt(vertexCount);
+            // Edges among the second half only go upwards, so it stays mostly acyclic
+            if (source >= half && destination >= half && source > destination) {
+                int swap = source;
+                source = destination;
+                destination = swap;
+            }
+            graph.addEdge(source, destination);
+        }
+        return graph;
+    }
+
+    /**
+     * Main method for ParallelStronglyConnectedComponents: decomposes every
+     * graph of an input file and checks the components against the sequential
+     * Graph.stronglyConnectedComponents, then times both on a large random
+     * graph.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                ParallelStronglyConnectedComponents engine = new ParallelStronglyConnectedComponents(g);
+                StronglyConnectedComponents parallel = engine.run();
+                StronglyConnectedComponents sequential = g.stronglyConnectedComponents();
+                boolean same = parallel.isSamePartition(sequential);
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + parallel.getComponentCount() + " components ("
+                        + engine.getTrimmedCount() + " trimmed, pivot component " + engine.getPivotComponentSize()
+                        + ", " + engine.getColorRounds() + " color rounds), "
+                        + (same ? "matches Tarjan" : "DOES NOT match Tarjan"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs match." : mismatches + " graphs differ.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        Graph large = randomGraph(1000000, 1500000, 42);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            StronglyConnectedComponents sequential = large.stronglyConnectedComponents();
+            long sequentialTime = System.nanoTime() - start;
+
+            ParallelStronglyConnectedComponents engine = new ParallelStronglyConnectedComponents(large);
+            start = System.nanoTime();
+            StronglyConnectedComponents parallel = engine.run();
+            long parallelTime = System.nanoTime() - start;
+
+            System.out.println("random graph (" + large.getVertexCount() + " vertices, " + large.getEdgeCount()
+                    + " edges): " + parallel.getComponentCount() + " components, Tarjan " + sequentialTime / 1000000
+                    + " ms, parallel " + parallelTime / 1000000 + " ms on " + ForkJoinPool.getCommonPoolParallelism()
+                    + " workers (" + engine.getTrimmedCount() + " trimmed, pivot component "
+                    + engine.getPivotComponentSize() + ", " + engine.getColorRounds() + " color rounds), "
+                    + (parallel.isSamePartition(sequential) ? "matches Tarjan" : "DOES NOT match Tarjan"));
+        }
+    }
+}
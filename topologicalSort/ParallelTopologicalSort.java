@@ -0,0 +1,292 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <ParallelTopologicalSort class runs Kahn's algorithm one wavefront at a time
+ * on a ForkJoinPool>
+ *
+ * All vertices of indegree 0 form wavefront 0. The vertices of a wavefront
+ * are expanded concurrently with ParallelLoop: every edge decrements the
+ * remaining indegree of its target in an AtomicIntegerArray, and the worker
+ * whose decrement reaches zero is the only one that sees zero, so it alone
+ * claims the target and appends it to the next wavefront through a shared
+ * tail index, without any locking. The order array holds the wavefronts one
+ * after the other, so the current one is read from the slice the next one is
+ * appended behind. The level of a vertex is the wavefront it was placed in,
+ * which is the length of the longest path from a source to it.
+ *
+ * The order within a wavefront depends on thread timing; across wavefronts it
+ * is always a valid topological order.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class ParallelTopologicalSort {
+
+    // Largest piece of a wavefront expanded by one task; smaller wavefronts
+    // are expanded on the calling thread
+    private static final int GRAIN = 1024;
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * <Wavefronts class holds the outcome of a wavefront sort: the order,
+     * grouped by level, and the level of every vertex>
+     */
+    public static final class Wavefronts {
+
+        private final int[] order;
+        private final int[] levels;
+        private final int[] levelStarts;
+
+        Wavefronts(int[] order, int[] levels, int[] levelStarts) {
+            this.order = order;
+            this.levels = levels;
+            this.levelStarts = levelStarts;
+        }
+
+        /**
+         * getOrder method gets the sorted vertices, level 0 first. For a
+         * cyclic graph the vertices that depend on a cycle are missing.
+         */
+        public int[] getOrder() {
+            return order;
+        }
+
+        /**
+         * getLevels method gets the level (depth) of every vertex, or -1 for
+         * vertices that depend on a cycle
+         */
+        public int[] getLevels() {
+            return levels;
+        }
+
+        /**
+         * getLevelCount method gets the number of wavefronts
+         */
+        public int getLevelCount() {
+            return levelStarts.length - 1;
+        }
+
+        /**
+         * getLevelStart method gets the index in the order where a level
+         * begins; level l occupies [getLevelStart(l), getLevelStart(l + 1)).
+         *
+         * @param level- a level between 0 and getLevelCount()
+         */
+        public int getLevelStart(int level) {
+            return levelStarts[level];
+        }
+
+        /**
+         * isAcyclic method tells whether every vertex could be ordered
+         */
+        public boolean isAcyclic() {
+            return order.length == levels.length;
+        }
+    }
+
+    /**
+     * constructor for the class ParallelTopologicalSort using the common
+     * ForkJoinPool
+     *
+     * @param graph the graph to sort
+     */
+    public ParallelTopologicalSort(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class ParallelTopologicalSort
+     *
+     * @param graph the graph to sort
+     * @param pool  the pool the wavefronts are expanded on
+     */
+    public ParallelTopologicalSort(Graph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts the graph wavefront by wavefront. The graph is not changed.
+     *
+     * @return the order and the level of every vertex
+     */
+    public Wavefronts sort() {
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] levels = new int[vertexCount];
+        Arrays.fill(levels, -1);
+        int[] order = new int[vertexCount];
+        AtomicIntegerArray remaining = new AtomicIntegerArray(vertexCount);
+        AtomicInteger tail = new AtomicInteger();
+
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int indegree = graph.getIndegree(vertex);
+            remaining.set(vertex, indegree);
+            if (indegree == 0) {
+                levels[vertex] = 0;
+                order[tail.getAndIncrement()] = vertex;
+            }
+        }
+
+        int[] levelStarts = new int[16];
+        int levelCount = 0;
+        int from = 0;
+        while (from < tail.get()) {
+            if (levelCount + 1 == levelStarts.length) {
+                levelStarts = Arrays.copyOf(levelStarts, levelStarts.length * 2);
+            }
+            levelStarts[levelCount++] = from;
+            int to = tail.get();
+            int level = levelCount;
+            ParallelLoop.forEach(pool, from, to, GRAIN, f -> {
+                int vertex = order[f];
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    int successor = targets[i];
+                    if (remaining.decrementAndGet(successor) == 0) {
+                        levels[successor] = level;
+                        order[tail.getAndIncrement()] = successor;
+                    }
+                }
+            });
+            from = to;
+        }
+        int count = tail.get();
+        levelStarts[levelCount] = count;
+
+        return new Wavefronts(count == vertexCount ? order : Arrays.copyOf(order, count), levels,
+                Arrays.copyOf(levelStarts, levelCount + 1));
+    }
+
+    /**
+     * Checks a wavefront sort: the order must be a permutation of the vertices
+     * it holds, every edge must go from a lower to a higher level, and every
+     * vertex above level 0 must have a predecessor exactly one level below.
+     */
+    static boolean isValid(Graph graph, Wavefronts wavefronts) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] levels = wavefronts.getLevels();
+        int[] order = wavefronts.getOrder();
+        boolean[] tight = new boolean[graph.getVertexCount()];
+
+        for (int level = 0; level < wavefronts.getLevelCount(); level++) {
+            for (int i = wavefronts.getLevelStart(level); i < wavefronts.getLevelStart(level + 1); i++) {
+                if (levels[order[i]] != level) {
+                    return false;
+                }
+            }
+        }
+        for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int successor = targets[i];
+                if (levels[vertex] == -1) {
+                    if (levels[successor] != -1) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (levels[successor] != -1 && levels[successor] <= levels[vertex]) {
+                    return false;
+                }
+                if (levels[successor] == levels[vertex] + 1) {
+                    tight[successor] = true;
+                }
+            }
+        }
+        for (int vertex : order) {
+            if (levels[vertex] > 0 && !tight[vertex]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a wide random DAG: the vertices are split into layers of equal
+     * width and every vertex gets edges to random vertices of later layers.
+     */
+    static Graph wideDag(int layers, int width, int degree, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph();
+        int vertexCount = layers * width;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            graph.addVertex(vertex);
+        }
+        for (int vertex = 0; vertex < vertexCount - width; vertex++) {
+            int nextLayer = (vertex / width + 1) * width;
+            for (int d = 0; d < degree; d++) {
+                int span = Math.min(vertexCount - nextLayer, 2 * width);
+                graph.addEdge(vertex, nextLayer + random.nextInt(span));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Main method for ParallelTopologicalSort: sorts every graph of an input
+     * file, checks the result against Graph.sort, then times the wavefront
+     * sort against the sequential one on a wide random DAG.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                Wavefronts wavefronts = new ParallelTopologicalSort(g).sort();
+                TopologicalSortResult sequential = g.sort(true);
+                boolean same = wavefronts.isAcyclic() == sequential.isAcyclic()
+                        && wavefronts.getOrder().length == sequential.getOrder().length
+                        && isValid(g, wavefronts);
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + wavefronts.getOrder().length + " of "
+                        + g.getVertexCount() + " vertices in " + wavefronts.getLevelCount() + " levels, "
+                        + (same ? "matches Kahn" : "DOES NOT match Kahn"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs match." : mismatches + " graphs differ.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        Graph wide = wideDag(20, 100000, 4, 42);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            int[] order = wide.topologicalOrder(false);
+            long sequentialTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Wavefronts wavefronts = new ParallelTopologicalSort(wide).sort();
+            long parallelTime = System.nanoTime() - start;
+
+            System.out.println("wide DAG (" + wide.getVertexCount() + " vertices, " + wide.getEdgeCount()
+                    + " edges): sequential " + sequentialTime / 1000000 + " ms, wavefront "
+                    + parallelTime / 1000000 + " ms on " + ForkJoinPool.getCommonPoolParallelism()
+                    + " workers, " + wavefronts.getLevelCount() + " levels, "
+                    + (order.length == wavefronts.getOrder().length && isValid(wide, wavefronts) ? "valid"
+                            : "INVALID"));
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <ReachabilityIndex class answers whether one vertex of a Graph can reach
+ * another without a fresh traversal per query>
+ *
+ * The index is built over the condensation of the graph, whose components are
+ * numbered in topological order, so a component can only reach components with
+ * a higher number and cyclic graphs are handled as well. A query is answered by
+ * the first of these that decides it:
+ * 1. Same component: reachable. Lower target number: not reachable.
+ * 2. GRAIL interval labels: several randomized depth-first traversals give
+ * every component a post-order interval; if the interval of the target is not
+ * inside that of the source in any of them, it is not reachable.
+ * 3. Transitive closure bitsets: the target columns are split into chunks of
+ * CHUNK_COLUMNS, and as many chunks as the memory budget allows are stored.
+ * Each chunk holds one bit row per component that lies before its last column,
+ * since no later component can reach it, and is filled independently, in
+ * parallel with the other chunks, by a sweep in reverse topological order that
+ * ORs the rows of the successors into each row. A stored chunk answers with a
+ * single bit test.
+ * 4. Otherwise a depth-first search that skips every component the labels or
+ * the topological numbering rule out.
+ *
+ * Queries may run concurrently: the fallback search keeps its working arrays
+ * per thread, and everything else is read-only once the index is built.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class ReachabilityIndex {
+
+    // Number of randomized traversals behind the interval labels
+    private static final int LABEL_COUNT = 3;
+
+    // Target columns per closure chunk, a multiple of 64
+    private static final int CHUNK_COLUMNS = 4096;
+    private static final int CHUNK_WORDS = CHUNK_COLUMNS / 64;
+
+    private final int[] componentId;
+    private final int componentCount;
+    private final int[] offsets;
+    private final int[] targets;
+
+    // low[l][c] .. post[l][c] is the interval of component c in traversal l
+    private final int[][] low;
+    private final int[][] post;
+
+    // chunks[k] holds CHUNK_WORDS words per component for columns of chunk k
+    private final long[][] chunks;
+
+    // Fallback search scratch of each querying thread
+    private final ThreadLocal<SearchScratch> scratch;
+
+    /**
+     * Working arrays of the fallback search on one thread; visited[c] == epoch
+     * marks c seen, so a new search only increments the epoch.
+     */
+    private static final class SearchScratch {
+
+        final int[] visited;
+        final int[] stack;
+        int epoch;
+
+        SearchScratch(int componentCount) {
+            visited = new int[componentCount];
+            stack = new int[componentCount];
+        }
+    }
+
+    /**
+     * constructor for the class ReachabilityIndex using the common
+     * ForkJoinPool
+     *
+     * @param graph              the graph to index
+     * @param memoryBudgetBytes  most bytes the closure bitsets may take
+     */
+    public ReachabilityIndex(Graph graph, long memoryBudgetBytes) {
+        this(graph, memoryBudgetBytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class ReachabilityIndex
+     *
+     * @param graph              the graph to index
+     * @param memoryBudgetBytes  most bytes the closure bitsets may take; 0
+     *                           keeps only the interval labels
+     * @param pool               the pool the closure chunks are built on
+     */
+    public ReachabilityIndex(Graph graph, long memoryBudgetBytes, ForkJoinPool pool) {
+        StronglyConnectedComponents components = graph.stronglyConnectedComponents();
+        componentId = components.getComponentIds();
+        componentCount = components.getComponentCount();
+        offsets = components.getCondensationOffsets();
+        targets = components.getCondensationTargets();
+
+        low = new int[LABEL_COUNT][];
+        post = new int[LABEL_COUNT][];
+        scratch = ThreadLocal.withInitial(() -> new SearchScratch(componentCount));
+        Random random = new Random(componentCount);
+        for (int l = 0; l < LABEL_COUNT; l++) {
+            label(l, random);
+        }
+
+        // Chunk k only needs rows for the components before its last column
+        int chunkCount = (componentCount + CHUNK_COLUMNS - 1) / CHUNK_COLUMNS;
+        int storedChunks = 0;
+        long closureBytes = 0;
+        while (storedChunks < chunkCount) {
+            long chunkBytes = (long) chunkRows(storedChunks) * CHUNK_WORDS * Long.BYTES;
+            // A chunk is one long array, so it must stay below the array size limit
+            if (closureBytes + chunkBytes > memoryBudgetBytes || chunkBytes / Long.BYTES > Integer.MAX_VALUE - 8) {
+                break;
+            }
+            closureBytes += chunkBytes;
+            storedChunks++;
+        }
+        chunks = new long[storedChunks][];
+        ParallelLoop.forEach(pool, 0, storedChunks, 1, this::buildChunk);
+    }
+
+    /**
+     * Fills traversal l of the interval labels with an iterative depth-first
+     * search from every source component, visiting roots and children from a
+     * random rotation. A component's interval runs from the smallest post-order
+     * number below it to its own post-order number.
+     */
+    private void label(int l, Random random) {
+        int[] lows = new int[componentCount];
+        int[] posts = new int[componentCount];
+        int[] cursor = new int[componentCount];
+        int[] firstChild = new int[componentCount];
+        int[] stack = new int[componentCount];
+        boolean[] hasParent = new boolean[componentCount];
+        for (int target : targets) {
+            hasParent[target] = true;
+        }
+        Arrays.fill(posts, -1);
+        Arrays.fill(cursor, -1);
+
+        int counter = 0;
+        int rootShift = componentCount == 0 ? 0 : random.nextInt(componentCount);
+        for (int r = 0; r < componentCount; r++) {
+            int root = (r + rootShift) % componentCount;
+            if (hasParent[root] || cursor[root] != -1) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int component = stack[top - 1];
+                int degree = offsets[component + 1] - offsets[component];
+                if (cursor[component] == -1) {
+                    cursor[component] = 0;
+                    firstChild[component] = degree == 0 ? 0 : random.nextInt(degree);
+                    lows[component] = Integer.MAX_VALUE;
+                }
+                if (cursor[component] < degree) {
+                    int child = targets[offsets[component] + (firstChild[component] + cursor[component]) % degree];
+                    cursor[component]++;
+                    if (cursor[child] == -1) {
+                        stack[top++] = child;
+                    } else {
+                        lows[component] = Math.min(lows[component], lows[child]);
+                    }
+                    continue;
+                }
+                top--;
+                posts[component] = counter++;
+                lows[component] = Math.min(lows[component], posts[component]);
+                if (top > 0) {
+                    int parent = stack[top - 1];
+                    lows[parent] = Math.min(lows[parent], lows[component]);
+                }
+            }
+        }
+        low[l] = lows;
+        post[l] = posts;
+    }
+
+    /**
+     * Number of rows chunk k stores: components at or after its last column
+     * cannot reach any of its columns, since components only reach higher
+     * numbers.
+     */
+    private int chunkRows(int k) {
+        return Math.min(componentCount, (k + 1) * CHUNK_COLUMNS);
+    }
+
+    /**
+     * Builds closure chunk k by one sweep in reverse topological order.
+     */
+    private void buildChunk(int k) {
+        int rows = chunkRows(k);
+        long[] bits = new long[rows * CHUNK_WORDS];
+        int firstColumn = k * CHUNK_COLUMNS;
+        for (int component = rows - 1; component >= 0; component--) {
+            int row = component * CHUNK_WORDS;
+            for (int i = offsets[component]; i < offsets[component + 1]; i++) {
+                int child = targets[i];
+                int column = child - firstColumn;
+                if (column >= CHUNK_COLUMNS) {
+                    continue;
+                }
+                if (column >= 0) {
+                    bits[row + (column >>> 6)] |= 1L << column;
+                }
+                int childRow = child * CHUNK_WORDS;
+                for (int w = 0; w < CHUNK_WORDS; w++) {
+                    bits[row + w] |= bits[childRow + w];
+                }
+            }
+        }
+        chunks[k] = bits;
+    }
+
+    /**
+     * reaches method tells whether there is a path from one vertex to another;
+     * every vertex reaches itself
+     *
+     * @param source      -- source vertex
+     * @param destination--destination vertex
+     */
+    public boolean reaches(int source, int destination) {
+        int from = componentId[source];
+        int to = componentId[destination];
+        if (from == to) {
+            return true;
+        }
+        if (from > to || !labelsAllow(from, to)) {
+            return false;
+        }
+        int k = to / CHUNK_COLUMNS;
+        if (k < chunks.length) {
+            int column = to - k * CHUNK_COLUMNS;
+            return (chunks[k][from * CHUNK_WORDS + (column >>> 6)] & (1L << column)) != 0;
+        }
+        return search(from, to);
+    }
+
+    /**
+     * Tells whether every traversal puts the interval of to inside that of
+     * from, which every component reachable from from satisfies.
+     */
+    private boolean labelsAllow(int from, int to) {
+        for (int l = 0; l < LABEL_COUNT; l++) {
+            if (low[l][to] < low[l][from] || post[l][to] > post[l][from]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Depth-first search from from for to, pruned by the labels and by the
+     * topological numbering.
+     */
+    private boolean search(int from, int to) {
+        SearchScratch context = scratch.get();
+        int[] visited = context.visited;
+        int[] stack = context.stack;
+        if (++context.epoch == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            context.epoch = 1;
+        }
+        int epoch = context.epoch;
+        int top = 0;
+        visited[from] = epoch;
+        stack[top++] = from;
+        while (top > 0) {
+            int component = stack[--top];
+            for (int i = offsets[component]; i < offsets[component + 1]; i++) {
+                int child = targets[i];
+                if (child == to) {
+                    return true;
+                }
+                if (child < to && visited[child] != epoch && labelsAllow(child, to)) {
+                    visited[child] = epoch;
+                    stack[top++] = child;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * getComponentCount method gets the number of components the index is
+     * built over
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * getStoredColumnFraction method gets the share of target components whose
+     * queries a closure chunk answers, between 0 and 1
+     */
+    public double getStoredColumnFraction() {
+        if (componentCount == 0) {
+            return 1;
+        }
+        return Math.min(componentCount, (long) chunks.length * CHUNK_COLUMNS) / (double) componentCount;
+    }
+
+    /**
+     * getClosureBytes method gets the number of bytes the stored closure
+     * chunks take
+     */
+    public long getClosureBytes() {
+        long bytes = 0;
+        for (long[] chunk : chunks) {
+            bytes += (long) chunk.length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Answers a query with a breadth-first search over the graph, the baseline
+     * the index is checked and timed against.
+     */
+    static boolean reachesByBfs(Graph graph, int source, int destination, boolean[] seen, int[] queue) {
+        int[] graphOffsets = graph.getOffsets();
+        int[] graphTargets = graph.getTargets();
+        Arrays.fill(seen, false);
+        int tail = 0;
+        seen[source] = true;
+        queue[tail++] = source;
+        for (int head = 0; head < tail; head++) {
+            int vertex = queue[head];
+            if (vertex == destination) {
+                return true;
+            }
+            for (int i = graphOffsets[vertex]; i < graphOffsets[vertex + 1]; i++) {
+                if (!seen[graphTargets[i]]) {
+                    seen[graphTargets[i]] = true;
+                    queue[tail++] = graphTargets[i];
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Main method for ReachabilityIndex: checks every pair of vertices of every
+     * graph of an input file against BFS, with the full closure and with labels
+     * and search only, then benchmarks queries on a random DAG under two memory
+     * budgets.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                int vertexCount = g.getVertexCount();
+                ReachabilityIndex full = new ReachabilityIndex(g, Long.MAX_VALUE);
+                ReachabilityIndex labelsOnly = new ReachabilityIndex(g, 0);
+                boolean[] seen = new boolean[vertexCount];
+                int[] queue = new int[vertexCount];
+                int reachable = 0;
+                boolean same = true;
+                for (int u = 0; u < vertexCount; u++) {
+                    for (int v = 0; v < vertexCount; v++) {
+                        boolean expected = reachesByBfs(g, u, v, seen, queue);
+                        same &= full.reaches(u, v) == expected && labelsOnly.reaches(u, v) == expected;
+                        if (expected) {
+                            reachable++;
+                        }
+                    }
+                }
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + reachable + " of " + vertexCount * vertexCount
+                        + " pairs reachable, " + (same ? "matches BFS" : "DOES NOT match BFS"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs match." : mismatches + " graphs differ.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        Graph dag = ParallelTopologicalSort.wideDag(100, 200, 2, 7);
+        int vertexCount = dag.getVertexCount();
+        int queries = 1000000;
+        Random random = new Random(1);
+        int[] sources = new int[queries];
+        int[] destinations = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(vertexCount);
+            destinations[i] = random.nextInt(vertexCount);
+        }
+
+        boolean[] seen = new boolean[vertexCount];
+        int[] queue = new int[vertexCount];
+        int bfsQueries = 2000;
+        boolean[] expected = new boolean[bfsQueries];
+        long start = System.nanoTime();
+        for (int i = 0; i < bfsQueries; i++) {
+            expected[i] = reachesByBfs(dag, sources[i], destinations[i], seen, queue);
+        }
+        long bfsTime = (System.nanoTime() - start) / bfsQueries;
+        System.out.println("random DAG (" + vertexCount + " vertices, " + dag.getEdgeCount() + " edges): BFS "
+                + bfsTime + " ns per query");
+
+        long[] budgets = { Long.MAX_VALUE, 16L << 20, 0 };
+        for (long budget : budgets) {
+            start = System.nanoTime();
+            ReachabilityIndex index = new ReachabilityIndex(dag, budget);
+            long buildTime = System.nanoTime() - start;
+
+            boolean same = true;
+            for (int i = 0; i < bfsQueries; i++) {
+                same &= index.reaches(sources[i], destinations[i]) == expected[i];
+            }
+            int positives = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                if (index.reaches(sources[i], destinations[i])) {
+                    positives++;
+                }
+            }
+            long queryTime = (System.nanoTime() - start) / queries;
+            System.out.println("  closure " + index.getClosureBytes() / 1024 + " KiB ("
+                    + Math.round(100 * index.getStoredColumnFraction()) + "% of columns), built in "
+                    + buildTime / 1000000 + " ms: " + queryTime + " ns per query, " + positives + " of " + queries
+                    + " reachable, " + (same ? "matches BFS" : "DOES NOT match BFS"));
+        }
+    }
+}
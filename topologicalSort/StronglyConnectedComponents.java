@@ -0,0 +1,360 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * <StronglyConnectedComponents class holds the strongly connected components
+ * of a directed Graph and its condensation, the DAG with one vertex per
+ * component>
+ *
+ * The vertices are stored grouped by component: the vertices of component c are
+ * vertices[offsets[c]] .. vertices[offsets[c + 1] - 1] in ascending order.
+ * Components are numbered in a topological order of the condensation, so every
+ * condensation edge goes from a lower to a higher component. The condensation
+ * is kept in CSR form without duplicate edges.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class StronglyConnectedComponents {
+
+    private final int[] componentId;
+    private final int[] offsets;
+    private final int[] vertices;
+    private final int componentCount;
+    private final int[] condensationOffsets;
+    private final int[] condensationTargets;
+
+    /**
+     * constructor for the class StronglyConnectedComponents
+     *
+     * @param componentId         component of every vertex
+     * @param offsets             start of every component in vertices, plus
+     *                            one trailing entry equal to the vertex count
+     * @param componentCount      number of components
+     * @param vertices            vertices grouped by component
+     * @param condensationOffsets row offsets of the condensation
+     * @param condensationTargets successors in the condensation
+     */
+    StronglyConnectedComponents(int[] componentId, int[] offsets, int componentCount, int[] vertices,
+            int[] condensationOffsets, int[] condensationTargets) {
+        this.componentId = componentId;
+        this.offsets = offsets;
+        this.componentCount = componentCount;
+        this.vertices = vertices;
+        this.condensationOffsets = condensationOffsets;
+        this.condensationTargets = condensationTargets;
+    }
+
+    /**
+     * Builds the result from component labels that are already numbered in a
+     * topological order of the condensation.
+     *
+     * @param labels         component of every vertex in 0..componentCount - 1
+     * @param componentCount number of components
+     * @param graphOffsets   row offsets of the graph's CSR adjacency
+     * @param graphTargets   successors in the graph's CSR adjacency
+     * @return the components and their condensation
+     */
+    static StronglyConnectedComponents fromOrderedLabels(int[] labels, int componentCount, int[] graphOffsets,
+            int[] graphTargets) {
+        int vertexCount = labels.length;
+        int[] offsets = new int[componentCount + 1];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            offsets[labels[vertex] + 1]++;
+        }
+        for (int component = 0; component < componentCount; component++) {
+            offsets[component + 1] += offsets[component];
+        }
+        int[] cursor = Arrays.copyOf(offsets, componentCount);
+        int[] vertices = new int[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            vertices[cursor[labels[vertex]]++] = vertex;
+        }
+
+        // lastSource[t] == c once the edge c -> t has been recorded
+        int[] lastSource = new int[componentCount];
+        Arrays.fill(lastSource, -1);
+        int[] condensationOffsets = new int[componentCount + 1];
+        int[] condensationTargets = new int[16];
+        int edgeCount = 0;
+        for (int component = 0; component < componentCount; component++) {
+            for (int v = offsets[component]; v < offsets[component + 1]; v++) {
+                int vertex = vertices[v];
+                for (int i = graphOffsets[vertex]; i < graphOffsets[vertex + 1]; i++) {
+                    int target = labels[graphTargets[i]];
+                    if (target == component || lastSource[target] == component) {
+                        continue;
+                    }
+                    lastSource[target] = component;
+                    if (edgeCount == condensationTargets.length) {
+                        condensationTargets = Arrays.copyOf(condensationTargets, edgeCount * 2);
+                    }
+                    condensationTargets[edgeCount++] = target;
+                }
+            }
+            condensationOffsets[component + 1] = edgeCount;
+        }
+
+        return new StronglyConnectedComponents(labels, offsets, componentCount, vertices, condensationOffsets,
+                Arrays.copyOf(condensationTargets, edgeCount));
+    }
+
+    /**
+     * Builds the result from an arbitrary component label per vertex, such as
+     * the pivot each vertex was claimed from. The components are renumbered in
+     * the smallest-label-first topological order of their condensation.
+     *
+     * @param labels       a label per vertex in 0..labels.length - 1; vertices
+     *                     with equal labels are in the same component
+     * @param graphOffsets row offsets of the graph's CSR adjacency
+     * @param graphTargets successors in the graph's CSR adjacency
+     * @return the components and their condensation
+     */
+    static StronglyConnectedComponents fromLabels(int[] labels, int[] graphOffsets, int[] graphTargets) {
+        int vertexCount = labels.length;
+        int[] renumbered = new int[vertexCount];
+        Arrays.fill(renumbered, -1);
+        int[] compact = new int[vertexCount];
+        int componentCount = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (renumbered[labels[vertex]] == -1) {
+                renumbered[labels[vertex]] = componentCount++;
+            }
+            compact[vertex] = renumbered[labels[vertex]];
+        }
+
+        // Sort the condensation once to learn the order, then rebuild it in that order
+        StronglyConnectedComponents unordered = fromOrderedLabels(compact, componentCount, graphOffsets,
+                graphTargets);
+        int[] order = unordered.toGraph().topologicalOrder(true);
+        if (order.length != componentCount) {
+            throw new IllegalArgumentException("Labels are not strongly connected components");
+        }
+        int[] rank = new int[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            rank[order[i]] = i;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            compact[vertex] = rank[compact[vertex]];
+        }
+        return fromOrderedLabels(compact, componentCount, graphOffsets, graphTargets);
+    }
+
+    /**
+     * isSamePartition method tells whether another result groups the vertices
+     * into the same components, whatever their numbers
+     *
+     * @param other components of the same graph
+     */
+
+    public boolean isSamePartition(StronglyConnectedComponents other) {
+        if (componentCount != other.componentCount || componentId.length != other.componentId.length) {
+            return false;
+        }
+        int[] mapped = new int[componentCount];
+        Arrays.fill(mapped, -1);
+        for (int vertex = 0; vertex < componentId.length; vertex++) {
+            int component = componentId[vertex];
+            if (mapped[component] == -1) {
+                mapped[component] = other.componentId[vertex];
+            } else if (mapped[component] != other.componentId[vertex]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * getComponentCount method gets the number of strongly connected
+     * components
+     */
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * getComponentId method gets the component a vertex belongs to
+     *
+     * @param vertex- a vertex of the graph of type integer
+     */
+
+    public int getComponentId(int vertex) {
+        return componentId[vertex];
+    }
+
+    /**
+     * getComponentSize method gets the number of vertices in a component
+     *
+     * @param component- a component number
+     */
+
+    public int getComponentSize(int component) {
+        return offsets[component + 1] - offsets[component];
+    }
+
+    /**
+     * getComponentIds method gets the component of every vertex. The array is
+     * shared with this result and must not be modified.
+     */
+
+    public int[] getComponentIds() {
+        return componentId;
+    }
+
+    /**
+     * getOffsets method gets the start of every component in getVertices(). The
+     * array has getComponentCount() + 1 entries and must not be modified.
+     */
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * getVertices method gets all vertices grouped by component. The array is
+     * shared with this result and must not be modified.
+     */
+
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    /**
+     * getCondensationOffsets method gets the row offsets of the condensation
+     * DAG. The array must not be modified.
+     */
+
+    public int[] getCondensationOffsets() {
+        return condensationOffsets;
+    }
+
+    /**
+     * getCondensationTargets method gets the successor array of the
+     * condensation DAG. The array must not be modified.
+     */
+
+    public int[] getCondensationTargets() {
+        return condensationTargets;
+    }
+
+    /**
+     * toGraph method builds the condensation as a Graph, whose vertex c is
+     * component c, so that it can be sorted like any other DAG
+     */
+
+    public Graph toGraph() {
+        Graph condensation = new Graph();
+        for (int component = 0; component < componentCount; component++) {
+            condensation.addVertex(component);
+        }
+        for (int component = 0; component < componentCount; component++) {
+            for (int i = condensationOffsets[component]; i < condensationOffsets[component + 1]; i++) {
+                condensation.addEdge(component, condensationTargets[i]);
+            }
+        }
+        return condensation;
+    }
+
+    /**
+     * Checks the components against mutual reachability found by a BFS from
+     * every vertex, which takes O(V (V + E)) and is meant for small graphs.
+     */
+    static boolean matchesReachability(Graph graph, StronglyConnectedComponents components) {
+        int vertexCount = graph.getVertexCount();
+        int[] graphOffsets = graph.getOffsets();
+        int[] graphTargets = graph.getTargets();
+        boolean[][] reaches = new boolean[vertexCount][vertexCount];
+        int[] queue = new int[vertexCount];
+
+        for (int start = 0; start < vertexCount; start++) {
+            boolean[] seen = reaches[start];
+            int tail = 0;
+            seen[start] = true;
+            queue[tail++] = start;
+            for (int head = 0; head < tail; head++) {
+                int vertex = queue[head];
+                for (int i = graphOffsets[vertex]; i < graphOffsets[vertex + 1]; i++) {
+                    if (!seen[graphTargets[i]]) {
+                        seen[graphTargets[i]] = true;
+                        queue[tail++] = graphTargets[i];
+                    }
+                }
+            }
+        }
+
+        for (int u = 0; u < vertexCount; u++) {
+            for (int v = 0; v < vertexCount; v++) {
+                boolean strong = reaches[u][v] && reaches[v][u];
+                if (strong != (components.getComponentId(u) == components.getComponentId(v))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Main method for StronglyConnectedComponents: finds the components of
+     * every graph of an input file, checks them against mutual reachability,
+     * sorts each condensation, and runs the search on a million-vertex cycle
+     * to show that it needs no recursion.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                StronglyConnectedComponents components = g.stronglyConnectedComponents();
+                int[] order = components.toGraph().topologicalOrder(true);
+                boolean ascending = true;
+                for (int i = 0; i < order.length; i++) {
+                    ascending &= order[i] == i;
+                }
+                boolean same = matchesReachability(g, components) && ascending
+                        && order.length == components.getComponentCount();
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + components.getComponentCount() + " components, "
+                        + components.getCondensationTargets().length + " condensation edges, "
+                        + (same ? "matches reachability" : "DOES NOT match reachability"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs match." : mismatches + " graphs differ.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        // A path 0 -> 1 -> ... -> n - 1 closed back to 0, then a tail of one more path
+        int n = 1000000;
+        Graph ring = new Graph();
+        for (int vertex = 0; vertex < 2 * n; vertex++) {
+            ring.addVertex(vertex);
+        }
+        for (int vertex = 0; vertex + 1 < 2 * n; vertex++) {
+            ring.addEdge(vertex, vertex + 1);
+        }
+        ring.addEdge(n - 1, 0);
+
+        long start = System.nanoTime();
+        StronglyConnectedComponents components = ring.stronglyConnectedComponents();
+        long time = System.nanoTime() - start;
+        System.out.println("ring of " + n + " vertices plus a path of " + n + ": "
+                + components.getComponentCount() + " components (expected " + (n + 1) + "), largest "
+                + components.getComponentSize(components.getComponentId(0)) + ", " + time / 1000000 + " ms");
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+/**
+ * <TopologicalSortResult class is the outcome of sorting a Graph: the
+ * topological order if the graph is acyclic, otherwise the vertices that could
+ * be ordered plus one directed cycle that blocks the rest>
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class TopologicalSortResult {
+
+    private final int[] order;
+    private final int[] cycle;
+
+    /**
+     * constructor for the class TopologicalSortResult
+     *
+     * @param order the vertices that were ordered
+     * @param cycle a cycle, or null if the graph is acyclic
+     */
+    TopologicalSortResult(int[] order, int[] cycle) {
+        this.order = order;
+        this.cycle = cycle;
+    }
+
+    /**
+     * isAcyclic method tells whether every vertex could be ordered
+     */
+    public boolean isAcyclic() {
+        return cycle == null;
+    }
+
+    /**
+     * getOrder method gets the vertices in topological order. For a cyclic
+     * graph these are only the vertices that do not depend on a cycle. The
+     * array is shared with this result and must not be modified.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+
+    /**
+     * getCycle method gets a directed cycle as its vertices c0, c1, ..., ck-1,
+     * with edges c0 -> c1 -> ... -> ck-1 -> c0, or null for an acyclic graph.
+     * A self-loop is a cycle of one vertex.
+     */
+    public int[] getCycle() {
+        return cycle;
+    }
+}
@@ -0,0 +1,260 @@
+/**
+ * created on September 3, 2023
+ * implemented by Sai Kiran Nandipati
+
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <TransitiveReduction class removes every edge of a DAG that is implied by a
+ * longer path, leaving the graph with the fewest edges and the same
+ * reachability>
+ *
+ * Every vertex keeps its descendants as a bitset over topological positions,
+ * packed 64 to a long and starting at the word of its own position, since it
+ * has no descendants before that. A vertex looks at its children in ascending
+ * topological position: a child that is already in the union built from the
+ * earlier children is reachable through one of them, so its edge is
+ * redundant; otherwise the edge is kept and the child and its descendants are
+ * added to the union. The union is then the vertex's own descendant set.
+ *
+ * Vertices are processed in reverse topological order, grouped by height (the
+ * longest path to a sink): all children of a vertex have a lower height, so the
+ * vertices of one height are processed in parallel on a ForkJoinPool. The
+ * bitset of a vertex is dropped once all its parents are done with it.
+ *
+ * @author <SAI KIRAN NANDIPATI>
+ *
+ */
+
+class TransitiveReduction {
+
+    // Largest piece of a height level handled by one task
+    private static final int GRAIN = 64;
+
+    private final Graph reducedGraph;
+    private final int removedEdgeCount;
+
+    /**
+     * constructor for the class TransitiveReduction using the common
+     * ForkJoinPool
+     *
+     * @param graph the DAG to reduce; it is not changed
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public TransitiveReduction(Graph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * constructor for the class TransitiveReduction
+     *
+     * @param graph the DAG to reduce; it is not changed
+     * @param pool  the pool the vertices of each height are processed on
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public TransitiveReduction(Graph graph, ForkJoinPool pool) {
+        TopologicalSortResult result = graph.sort(true);
+        if (!result.isAcyclic()) {
+            throw new IllegalArgumentException("Graph has a cycle through vertices "
+                    + Arrays.toString(result.getCycle()));
+        }
+        int vertexCount = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] order = result.getOrder();
+        int[] position = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            position[order[i]] = i;
+        }
+
+        // Height of every vertex from one backward sweep, then vertices grouped by height
+        int[] height = new int[vertexCount];
+        int maxHeight = 0;
+        for (int i = vertexCount - 1; i >= 0; i--) {
+            int vertex = order[i];
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                height[vertex] = Math.max(height[vertex], height[targets[e]] + 1);
+            }
+            maxHeight = Math.max(maxHeight, height[vertex]);
+        }
+        int[] heightStarts = new int[maxHeight + 2];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            heightStarts[height[vertex] + 1]++;
+        }
+        for (int h = 0; h <= maxHeight; h++) {
+            heightStarts[h + 1] += heightStarts[h];
+        }
+        int[] byHeight = new int[vertexCount];
+        int[] cursor = Arrays.copyOf(heightStarts, maxHeight + 1);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            byHeight[cursor[height[vertex]]++] = vertex;
+        }
+
+        AtomicIntegerArray pendingParents = new AtomicIntegerArray(vertexCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            pendingParents.set(vertex, graph.getIndegree(vertex));
+        }
+        long[][] descendants = new long[vertexCount][];
+        boolean[] kept = new boolean[targets.length];
+        int words = (vertexCount + 63) >>> 6;
+
+        for (int h = 0; h <= maxHeight; h++) {
+            ParallelLoop.forEach(pool, heightStarts[h], heightStarts[h + 1], GRAIN, index -> {
+                int vertex = byHeight[index];
+                int firstWord = position[vertex] >>> 6;
+                long[] union = new long[words - firstWord];
+
+                // Children by ascending position, each packed with its edge index
+                int degree = offsets[vertex + 1] - offsets[vertex];
+                long[] children = new long[degree];
+                for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                    children[e - offsets[vertex]] = (long) position[targets[e]] << 32 | e;
+                }
+                Arrays.sort(children);
+
+                for (long child : children) {
+                    int childPosition = (int) (child >>> 32);
+                    int edge = (int) child;
+                    int bit = childPosition - (firstWord << 6);
+                    if ((union[bit >>> 6] & (1L << bit)) != 0) {
+                        continue;
+                    }
+                    kept[edge] = true;
+                    union[bit >>> 6] |= 1L << bit;
+                    long[] below = descendants[targets[edge]];
+                    int shift = (childPosition >>> 6) - firstWord;
+                    for (int w = 0; w < below.length; w++) {
+                        union[shift + w] |= below[w];
+                    }
+                }
+                descendants[vertex] = union;
+
+                // A child's bitset is no longer needed once every parent has read it
+                for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                    if (pendingParents.decrementAndGet(targets[e]) == 0) {
+                        descendants[targets[e]] = null;
+                    }
+                }
+            });
+        }
+
+        Graph reduced = new Graph();
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            reduced.addVertex(vertex);
+        }
+        int removed = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                if (kept[e]) {
+                    reduced.addEdge(vertex, targets[e]);
+                } else {
+                    removed++;
+                }
+            }
+        }
+        reducedGraph = reduced;
+        removedEdgeCount = removed;
+    }
+
+    /**
+     * getReducedGraph method gets the graph with only the edges not implied by
+     * other paths; the successors of each vertex keep their original order
+     */
+    public Graph getReducedGraph() {
+        return reducedGraph;
+    }
+
+    /**
+     * getRemovedEdgeCount method gets the number of edges removed, duplicate
+     * edges included
+     */
+    public int getRemovedEdgeCount() {
+        return removedEdgeCount;
+    }
+
+    /**
+     * Checks a reduction on small graphs: the reduced graph must reach exactly
+     * what the original reaches, and no kept edge u -> v may be replaceable by
+     * another path from u to v.
+     */
+    static boolean isValid(Graph graph, Graph reduced) {
+        int vertexCount = graph.getVertexCount();
+        boolean[] seen = new boolean[vertexCount];
+        int[] queue = new int[vertexCount];
+        for (int u = 0; u < vertexCount; u++) {
+            for (int v = 0; v < vertexCount; v++) {
+                if (ReachabilityIndex.reachesByBfs(graph, u, v, seen, queue)
+                        != ReachabilityIndex.reachesByBfs(reduced, u, v, seen, queue)) {
+                    return false;
+                }
+            }
+        }
+
+        // An edge u -> v is redundant if another child of u reaches v
+        int[] offsets = reduced.getOffsets();
+        int[] targets = reduced.getTargets();
+        for (int u = 0; u < vertexCount; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                for (int f = offsets[u]; f < offsets[u + 1]; f++) {
+                    if (e != f && ReachabilityIndex.reachesByBfs(reduced, targets[f], targets[e], seen, queue)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Main method for TransitiveReduction: reduces every acyclic graph of an
+     * input file and checks the result, then times the reduction of a random
+     * DAG.
+     *
+     * @param args-> gets the name of the file from the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            ArrayList<Graph> graphs = topSort.readFile(args[0]);
+            int count = 0;
+            int mismatches = 0;
+
+            for (Graph g : graphs) {
+                count++;
+                if (!g.sort(true).isAcyclic()) {
+                    System.out.println("G" + count + ": cyclic, not reduced");
+                    continue;
+                }
+                TransitiveReduction reduction = new TransitiveReduction(g);
+                boolean same = isValid(g, reduction.getReducedGraph())
+                        && reduction.getReducedGraph().getEdgeCount() + reduction.getRemovedEdgeCount()
+                                == g.getEdgeCount();
+                if (!same) {
+                    mismatches++;
+                }
+                System.out.println("G" + count + ": " + g.getEdgeCount() + " edges, " + reduction.getRemovedEdgeCount()
+                        + " removed, " + (same ? "valid" : "INVALID"));
+            }
+            System.out.println(mismatches == 0 ? "All graphs valid." : mismatches + " graphs invalid.");
+        } catch (IOException e) {
+
+            e.printStackTrace();
+        }
+
+        Graph dag = ParallelTopologicalSort.wideDag(100, 200, 8, 7);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            TransitiveReduction reduction = new TransitiveReduction(dag);
+            long time = System.nanoTime() - start;
+
+            System.out.println("random DAG (" + dag.getVertexCount() + " vertices, " + dag.getEdgeCount()
+                    + " edges): " + reduction.getRemovedEdgeCount() + " edges removed in " + time / 1000000
+                    + " ms on " + ForkJoinPool.getCommonPoolParallelism() + " workers");
+        }
+    }
+}
@@ -14,15 +14,32 @@ import java.util.*;
  * functionalities
  * like obtains the topologicalorder of a DAG>
  *
+ * Indegrees are kept in an int array and the edges in primitive arrays, from
+ * which a compressed sparse row (CSR) adjacency is built when a sort needs it.
+ *
  * @author <SAI KIRAN NANDIPATI>
  *
  */
 
 class Graph {
 
-    private ArrayList<Integer> vertexList;
-    private ArrayList<ArrayList<Integer>> adjacencyList;
-    private HashMap<Integer, Integer> indegreeMap;
+    private int vertexCount;
+    private int[] indegree;
+
+    // Every directed edge in the order it was added
+    private int[] edgeSources;
+    private int[] edgeDestinations;
+    private int edgeCount;
+
+    // Compressed sparse row adjacency built from the edge list on demand: the
+    // successors of v are targets[offsets[v]] .. targets[offsets[v + 1] - 1].
+    // Reset to null whenever a vertex or edge is added.
+    private int[] offsets;
+    private int[] targets;
+
+    // The same for the predecessors, built only when asked for
+    private int[] reverseOffsets;
+    private int[] reverseTargets;
 
     /**
      * constructor for the class Graph
@@ -31,23 +48,28 @@ class Graph {
      */
     public Graph() {
 
-        vertexList = new ArrayList<Integer>();
-        adjacencyList = new ArrayList<ArrayList<Integer>>();
-        indegreeMap = new HashMap<>();
+        vertexCount = 0;
+        indegree = new int[16];
+        edgeSources = new int[16];
+        edgeDestinations = new int[16];
+        edgeCount = 0;
 
     }
 
     /**
-     * addVertex method add the vertex to the vertx list,adjecency listr and
-     * indegree map.
+     * addVertex method adds the next vertex to the graph with indegree 0.
+     * Vertices are numbered 0, 1, 2, ... in the order they are added.
      * 
      * @param vertex- a vertex of the graph of type integer
      */
 
     public void addVertex(int vertex) {
-        vertexList.add(vertex);
-        adjacencyList.add(new ArrayList<>());
-        indegreeMap.put(vertex, 0);
+        if (vertexCount == indegree.length) {
+            indegree = Arrays.copyOf(indegree, vertexCount * 2);
+        }
+        indegree[vertexCount++] = 0;
+        offsets = null;
+        reverseOffsets = null;
 
     }
 
@@ -56,31 +78,103 @@ class Graph {
      * 
      * @param source                   -- source vertex
      * @param destination--destination vertex
+     * @throws IndexOutOfBoundsException if either vertex has not been added
      */
 
     public void addEdge(int source, int destination) {
-        adjacencyList.get(source).add(destination);
-        indegreeMap.put(destination, indegreeMap.get(destination) + 1); // Increase indegree of the destination
+        if (source < 0 || source >= vertexCount || destination < 0 || destination >= vertexCount) {
+            throw new IndexOutOfBoundsException("Edge (" + source + ", " + destination
+                    + ") refers to a vertex outside 0.." + (vertexCount - 1));
+        }
+        if (edgeCount == edgeSources.length) {
+            edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+            edgeDestinations = Arrays.copyOf(edgeDestinations, edgeCount * 2);
+        }
+        edgeSources[edgeCount] = source;
+        edgeDestinations[edgeCount] = destination;
+        edgeCount++;
+        indegree[destination]++; // Increase indegree of the destination
+        offsets = null;
+        reverseOffsets = null;
+    }
+
+    /**
+     * Builds the CSR adjacency from the edge list if edges were added since it
+     * was last built. Each vertex keeps its successors in insertion order.
+     */
+
+    private void buildAdjacency() {
+        if (offsets != null) {
+            return;
+        }
+        int[] rowOffsets = new int[vertexCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            rowOffsets[edgeSources[i] + 1]++;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            rowOffsets[vertex + 1] += rowOffsets[vertex];
+        }
+        int[] rowTargets = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(rowOffsets, vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            rowTargets[cursor[edgeSources[i]]++] = edgeDestinations[i];
+        }
+        targets = rowTargets;
+        offsets = rowOffsets;
+    }
+
+    /**
+     * Builds the CSR adjacency of the reversed edges if edges were added since
+     * it was last built. Each vertex keeps its predecessors in insertion order.
+     */
+
+    private void buildReverseAdjacency() {
+        if (reverseOffsets != null) {
+            return;
+        }
+        int[] rowOffsets = new int[vertexCount + 1];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            rowOffsets[vertex + 1] = rowOffsets[vertex] + indegree[vertex];
+        }
+        int[] rowTargets = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(rowOffsets, vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            rowTargets[cursor[edgeDestinations[i]]++] = edgeSources[i];
+        }
+        reverseTargets = rowTargets;
+        reverseOffsets = rowOffsets;
     }
 
     /**
      * getNeighbors method will gets all the neighbours of the provided vertex
      * 
      * @param vertex- a vertex of the graph of type integer
+     * @return a new list holding the successors of the vertex
      */
 
     public ArrayList<Integer> getNeighbors(int vertex) {
-        return adjacencyList.get(vertex);
+        buildAdjacency();
+        ArrayList<Integer> neighbors = new ArrayList<>(offsets[vertex + 1] - offsets[vertex]);
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+            neighbors.add(targets[i]);
+        }
+        return neighbors;
     }
 
     /**
      * getVertexCount method gets the number of vertices in the graph
-     * 
-     * @param vertex- a vertex of the graph of type integer
      */
 
     public int getVertexCount() {
-        return adjacencyList.size();
+        return vertexCount;
+    }
+
+    /**
+     * getEdgeCount method gets the number of directed edges in the graph
+     */
+
+    public int getEdgeCount() {
+        return edgeCount;
     }
 
     /**
@@ -90,56 +184,276 @@ class Graph {
      */
 
     public int getIndegree(int vertex) {
-        return indegreeMap.get(vertex);
+        return indegree[vertex];
     }
 
     /**
-     * Finds and returns the topological order of vertices in a directed acyclic
-     * graph (DAG).
-     * If the graph is not acyclic, it returns an empty list.
+     * getOffsets method gets the row offsets of the CSR adjacency. The array is
+     * shared with the graph, must not be modified and is only valid until the
+     * next vertex or edge is added.
+     */
+
+    public int[] getOffsets() {
+        buildAdjacency();
+        return offsets;
+    }
+
+    /**
+     * getTargets method gets the successor array of the CSR adjacency. The
+     * array is shared with the graph, must not be modified and is only valid
+     * until the next vertex or edge is added.
+     */
+
+    public int[] getTargets() {
+        buildAdjacency();
+        return targets;
+    }
+
+    /**
+     * getReverseOffsets method gets the row offsets of the CSR adjacency of
+     * the reversed edges, which is built once and kept until the next vertex
+     * or edge is added. The array must not be modified.
+     */
+
+    public int[] getReverseOffsets() {
+        buildReverseAdjacency();
+        return reverseOffsets;
+    }
+
+    /**
+     * getReverseTargets method gets the predecessor array of the reversed CSR
+     * adjacency: the predecessors of v are getReverseTargets()[o[v]] ..
+     * getReverseTargets()[o[v + 1] - 1] with o = getReverseOffsets(). The
+     * array must not be modified.
+     */
+
+    public int[] getReverseTargets() {
+        buildReverseAdjacency();
+        return reverseTargets;
+    }
+
+    /**
+     * Finds the topological order of the vertices with Kahn's algorithm over
+     * primitive arrays: the indegrees are an int array, the adjacency is CSR
+     * and the ready vertices wait in an IntMinHeap (smallest label first) or a
+     * plain FIFO queue. The graph is not changed, so it can be sorted again,
+     * also after more edges are added.
      *
-     * @return An ArrayList of integers representing the topological order of
-     *         vertices.
+     * @param smallestLabelFirst true to always take the smallest ready vertex,
+     *                           which gives the same order as
+     *                           findTopologicalOrder; false to take ready
+     *                           vertices in the order they became ready
+     * @return the vertices in topological order; fewer than getVertexCount()
+     *         of them if the graph has a cycle
      */
 
-    public ArrayList<Integer> findTopologicalOrder() {
-        ArrayList<Integer> topologicalOrder = new ArrayList<>();
+    public int[] topologicalOrder(boolean smallestLabelFirst) {
+        return kahn(Arrays.copyOf(indegree, vertexCount), smallestLabelFirst);
+    }
 
-        // Create a priority queue to store vertices with in-degree 0
-        PriorityQueue<Integer> queue = new PriorityQueue<>();
-        for (int vertex = 0; vertex < adjacencyList.size(); vertex++) {
-            if (indegreeMap.get(vertex) == 0) {
-                queue.offer(vertex); // adding element to the queue.
-            }
+    /**
+     * Sorts the graph without changing it and, if it is cyclic, extracts one
+     * cycle in O(V + E) instead of reporting the failure on the console.
+     *
+     * @param smallestLabelFirst as for topologicalOrder
+     * @return the order, and a cycle if the graph is not acyclic
+     */
+
+    public TopologicalSortResult sort(boolean smallestLabelFirst) {
+        int[] remainingIndegree = Arrays.copyOf(indegree, vertexCount);
+        int[] order = kahn(remainingIndegree, smallestLabelFirst);
+        if (order.length == vertexCount) {
+            return new TopologicalSortResult(order, null);
         }
-        if (queue.isEmpty()) {
-            System.out.print(" No in-degree 0 vertices; not an acyclic graph.");
+        return new TopologicalSortResult(order, findCycle(remainingIndegree));
+    }
+
+    /**
+     * Kahn's algorithm on the given indegree array, which it uses up.
+     */
+
+    private int[] kahn(int[] remainingIndegree, boolean smallestLabelFirst) {
+        buildAdjacency();
+        int[] order = new int[vertexCount];
+        int count = 0;
+
+        if (smallestLabelFirst) {
+            IntMinHeap heap = new IntMinHeap(vertexCount);
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (remainingIndegree[vertex] == 0) {
+                    heap.push(vertex);
+                }
+            }
+            while (!heap.isEmpty()) {
+                int vertex = heap.pop();
+                order[count++] = vertex;
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    if (--remainingIndegree[targets[i]] == 0) {
+                        heap.push(targets[i]);
+                    }
+                }
+            }
         } else {
+            // The output array doubles as the FIFO queue
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (remainingIndegree[vertex] == 0) {
+                    order[count++] = vertex;
+                }
+            }
+            for (int head = 0; head < count; head++) {
+                int vertex = order[head];
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    if (--remainingIndegree[targets[i]] == 0) {
+                        order[count++] = targets[i];
+                    }
+                }
+            }
+        }
 
-            // Perform topological sorting
-            while (!queue.isEmpty()) {
+        return count == vertexCount ? order : Arrays.copyOf(order, count);
+    }
 
-                int vertex = queue.poll();
-                topologicalOrder.add(vertex);
+    /**
+     * Extracts a cycle from the vertices Kahn's algorithm could not order
+     * (those with remaining indegree above zero). Each of them still has a
+     * predecessor among them, so following predecessors from any of them must
+     * revisit a vertex; the loop closed there, read backwards, is a cycle.
+     */
 
-                // Remove this vertex and update in-degrees of its neighbors
-                ArrayList<Integer> neighbors = adjacencyList.get(vertex);
+    private int[] findCycle(int[] remainingIndegree) {
+        int[] predecessor = new int[vertexCount];
+        Arrays.fill(predecessor, -1);
+        int start = -1;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (remainingIndegree[vertex] == 0) {
+                continue;
+            }
+            start = vertex;
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                if (remainingIndegree[targets[i]] > 0) {
+                    predecessor[targets[i]] = vertex;
+                }
+            }
+        }
 
-                for (int neighbor : neighbors) {
-                    indegreeMap.put(neighbor, indegreeMap.get(neighbor) - 1);
-                    if (indegreeMap.get(neighbor) == 0) {
-                        queue.offer(neighbor);
-                    }
+        // Walk predecessors until a vertex repeats; step[v] is when v was reached
+        int[] step = new int[vertexCount];
+        Arrays.fill(step, -1);
+        int vertex = start;
+        int steps = 0;
+        while (step[vertex] == -1) {
+            step[vertex] = steps++;
+            vertex = predecessor[vertex];
+        }
 
+        int length = steps - step[vertex];
+        int[] cycle = new int[length];
+        // Walking predecessors goes against the edges, so fill from the back
+        for (int i = length - 1; i >= 0; i--) {
+            cycle[i] = vertex;
+            vertex = predecessor[vertex];
+        }
+        return cycle;
+    }
+
+    /**
+     * Finds the strongly connected components with Pearce's variant of
+     * Tarjan's algorithm in O(V + E). The depth-first search runs on explicit
+     * int stacks instead of recursion, so its depth is only limited by the
+     * vertex count. rindex holds the discovery index of a vertex while it is
+     * open and the component number once its component is complete; component
+     * numbers count down from V - 1 and the open indexes count up from 1, so
+     * the two ranges never meet.
+     *
+     * @return the components, numbered so that every edge between two
+     *         components goes from the lower to the higher number
+     */
+
+    public StronglyConnectedComponents stronglyConnectedComponents() {
+        buildAdjacency();
+        int[] rindex = new int[vertexCount];
+        boolean[] root = new boolean[vertexCount];
+        int[] cursor = new int[vertexCount];
+        int[] callStack = new int[vertexCount];
+        int[] componentStack = new int[vertexCount];
+        int callTop = 0;
+        int componentTop = 0;
+        int index = 1;
+        int component = vertexCount - 1;
+
+        for (int start = 0; start < vertexCount; start++) {
+            if (rindex[start] != 0) {
+                continue;
+            }
+            rindex[start] = index++;
+            root[start] = true;
+            cursor[start] = offsets[start];
+            callStack[callTop++] = start;
+
+            while (callTop > 0) {
+                int vertex = callStack[callTop - 1];
+                if (cursor[vertex] < offsets[vertex + 1]) {
+                    int successor = targets[cursor[vertex]];
+                    if (rindex[successor] == 0) {
+                        // Descend; the edge is looked at again once the successor is done
+                        rindex[successor] = index++;
+                        root[successor] = true;
+                        cursor[successor] = offsets[successor];
+                        callStack[callTop++] = successor;
+                        continue;
+                    }
+                    if (rindex[successor] < rindex[vertex]) {
+                        rindex[vertex] = rindex[successor];
+                        root[vertex] = false;
+                    }
+                    cursor[vertex]++;
+                    continue;
                 }
 
+                callTop--;
+                if (!root[vertex]) {
+                    componentStack[componentTop++] = vertex;
+                    continue;
+                }
+                index--;
+                while (componentTop > 0 && rindex[vertex] <= rindex[componentStack[componentTop - 1]]) {
+                    rindex[componentStack[--componentTop]] = component;
+                    index--;
+                }
+                rindex[vertex] = component;
+                component--;
             }
         }
 
+        // Components completed first are sinks, so shifting to 0.. keeps edges ascending
+        int componentCount = vertexCount - 1 - component;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            rindex[vertex] -= component + 1;
+        }
+        return StronglyConnectedComponents.fromOrderedLabels(rindex, componentCount, offsets, targets);
+    }
+
+    /**
+     * Finds and returns the topological order of vertices in a directed acyclic
+     * graph (DAG).
+     * If the graph is not acyclic, it returns an empty list.
+     *
+     * @return An ArrayList of integers representing the topological order of
+     *         vertices.
+     */
+
+    public ArrayList<Integer> findTopologicalOrder() {
+        ArrayList<Integer> topologicalOrder = new ArrayList<>();
+        int[] order = topologicalOrder(true);
+
+        if (order.length == 0) {
+            System.out.print(" No in-degree 0 vertices; not an acyclic graph.");
+        }
+
         // If the topological order size is less than the number of vertices, there is a
         // cycle
-        if (topologicalOrder.size() > 0 && topologicalOrder.size() < adjacencyList.size()) {
-            for (int i : topologicalOrder) {
+        if (order.length > 0 && order.length < vertexCount) {
+            for (int i : order) {
                 System.out.print(i + " ->");
             }
 
@@ -147,6 +461,9 @@ class Graph {
             return new ArrayList<>();
         }
 
+        for (int vertex : order) {
+            topologicalOrder.add(vertex);
+        }
         return topologicalOrder;
     }
 